@@ -0,0 +1,79 @@
+package ru.practicum.shareit.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.dto.BookingIntervalView;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.availability.ItemAvailabilityIndex;
+import ru.practicum.shareit.item.dto.AvailabilityWindowDto;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AvailabilityBenchmark {
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    @Param({"10", "1000"})
+    private int bookings;
+
+    private ItemAvailabilityIndex index;
+    private LocalDateTime from;
+    private LocalDateTime to;
+
+    @Setup
+    public void setUp() {
+        List<BookingIntervalView> intervals = new ArrayList<>();
+        for (int i = 0; i < bookings; i++) {
+            intervals.add(interval(i, EPOCH.plusDays(3L * i), EPOCH.plusDays(3L * i + 2)));
+        }
+        BookingRepository bookingRepository = (BookingRepository) Proxy.newProxyInstance(
+                BookingRepository.class.getClassLoader(), new Class<?>[]{BookingRepository.class},
+                (instance, method, args) -> intervals);
+        index = new ItemAvailabilityIndex(bookingRepository, 1, Duration.ofHours(1));
+        from = EPOCH.plusDays(3L * bookings / 2);
+        to = from.plusMonths(1);
+    }
+
+    @Benchmark
+    public List<AvailabilityWindowDto> freeWindowsForMonth() {
+        return index.getFreeWindows(1, from, to);
+    }
+
+    private static BookingIntervalView interval(long id, LocalDateTime start, LocalDateTime end) {
+        return new BookingIntervalView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getStart() {
+                return start;
+            }
+
+            @Override
+            public LocalDateTime getEnd() {
+                return end;
+            }
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package ru.practicum.shareit.bench;
+
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.comment.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+final class BenchmarkData {
+    static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    private BenchmarkData() {
+    }
+
+    static User user(long id) {
+        return new User(id, "user" + id, "user" + id + "@bench.ru");
+    }
+
+    static ItemRequest request(long id) {
+        return new ItemRequest(id, "Нужна дрель на выходные", user(id + 1), BASE.minusDays(id));
+    }
+
+    static Item item(long id) {
+        return new Item(id, "Дрель " + id, "Аккумуляторная дрель с набором бит", true, user(1),
+                id % 2 == 0 ? request(id) : null);
+    }
+
+    static Booking booking(long id) {
+        return new Booking(id, BASE.plusDays(id), BASE.plusDays(id + 2), item(id), user(id + 1),
+                BookingStatus.APPROVED);
+    }
+
+    static Comment comment(long id, Item item) {
+        return new Comment(id, "Отличная вещь, всё работает", item, user(id + 1), BASE.plusHours(id));
+    }
+
+    static List<Booking> bookings(int count) {
+        List<Booking> bookings = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) bookings.add(booking(id));
+        return bookings;
+    }
+
+    static List<Item> items(int count) {
+        List<Item> items = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) items.add(item(id));
+        return items;
+    }
+
+    static List<Comment> comments(Item item, int count) {
+        List<Comment> comments = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) comments.add(comment(id, item));
+        return comments;
+    }
+}
@@ -0,0 +1,48 @@
+package ru.practicum.shareit.bench;
+
+import org.postgresql.Driver;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import ru.practicum.shareit.ShareItServer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+final class BenchmarkDatabase {
+    static final int USERS = 1000;
+    static final int ITEMS = 10000;
+
+    private static final String URL = System.getProperty("bench.datasource.url",
+            "jdbc:postgresql://localhost:6541/shareit_bench");
+    private static final String USERNAME = System.getProperty("bench.datasource.username", "postgres");
+    private static final String PASSWORD = System.getProperty("bench.datasource.password", "postgres");
+
+    private BenchmarkDatabase() {
+    }
+
+    static void seed() {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(
+                new ClassPathResource("db/schema.sql"),
+                new ClassPathResource("seed.sql"));
+        populator.setSqlScriptEncoding("UTF-8");
+        populator.execute(new SimpleDriverDataSource(new Driver(), URL, USERNAME, PASSWORD));
+    }
+
+    static ConfigurableApplicationContext startServer(String... properties) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=" + URL,
+                "--spring.datasource.username=" + USERNAME,
+                "--spring.datasource.password=" + PASSWORD,
+                "--spring.sql.init.mode=never",
+                "--logging.level.root=WARN"));
+        Arrays.stream(properties).map(property -> "--" + property).forEach(args::add);
+        return new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(new String[0]));
+    }
+}
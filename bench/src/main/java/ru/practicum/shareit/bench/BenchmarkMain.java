@@ -0,0 +1,39 @@
+package ru.practicum.shareit.bench;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.Locale;
+
+public final class BenchmarkMain {
+    private static final String RESULT_FILE_PREFIX = "jmh-result.";
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws IOException, CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp()) {
+            commandLine.showHelp();
+            return;
+        }
+        if (commandLine.shouldList()) {
+            new Runner(commandLine).list();
+            return;
+        }
+        ResultFormatType format = commandLine.getResultFormat().orElse(ResultFormatType.JSON);
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(commandLine)
+                .resultFormat(format);
+        if (!commandLine.getResult().hasValue()) {
+            options.result(RESULT_FILE_PREFIX + format.name().toLowerCase(Locale.ROOT));
+        }
+        new Runner(options.build()).run();
+    }
+}
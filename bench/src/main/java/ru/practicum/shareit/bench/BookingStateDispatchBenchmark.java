@@ -0,0 +1,83 @@
+package ru.practicum.shareit.bench;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.dto.BookingOutputDto;
+import ru.practicum.shareit.booking.dto.BookingPageDto;
+import ru.practicum.shareit.booking.dto.BookingState;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingServiceImpl;
+import ru.practicum.shareit.item.availability.ItemAvailabilityIndex;
+import ru.practicum.shareit.item.cache.ItemDetailsCache;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingStateDispatchBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED"})
+    private BookingState state;
+
+    private BookingServiceImpl bookingService;
+
+    @Setup
+    public void setUp() {
+        List<Booking> page = BenchmarkData.bookings(PAGE_SIZE);
+        BookingRepository bookingRepository = stub(BookingRepository.class, page);
+        UserRepository userRepository = stub(UserRepository.class, page);
+        ItemRepository itemRepository = stub(ItemRepository.class, page);
+        ItemDetailsCache itemDetailsCache = new ItemDetailsCache(0, Duration.ZERO, new SimpleMeterRegistry());
+        ItemAvailabilityIndex availabilityIndex = new ItemAvailabilityIndex(bookingRepository, 0, Duration.ZERO);
+        bookingService = new BookingServiceImpl(bookingRepository, userRepository, itemRepository, itemDetailsCache,
+                availabilityIndex);
+    }
+
+    @Benchmark
+    public List<BookingOutputDto> userBookings() {
+        return bookingService.getAllUserBooking(1, state, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<BookingOutputDto> ownerBookings() {
+        return bookingService.getOwnerBooking(1, state, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public BookingPageDto userBookingsAfterCursor() {
+        return bookingService.getAllUserBookingByCursor(1, state, "MjAyNC0wMS0wMVQxMDowMHwxMDA", PAGE_SIZE);
+    }
+
+    private static <T> T stub(Class<T> repository, List<Booking> page) {
+        Object proxy = Proxy.newProxyInstance(repository.getClassLoader(), new Class<?>[]{repository},
+                (instance, method, args) -> {
+                    if (List.class.isAssignableFrom(method.getReturnType())) return page;
+                    if (Optional.class.equals(method.getReturnType())) return Optional.of(BenchmarkData.user(1));
+                    if (boolean.class.equals(method.getReturnType())) return true;
+                    return null;
+                });
+        return repository.cast(proxy);
+    }
+}
@@ -0,0 +1,67 @@
+package ru.practicum.shareit.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.item.dto.ItemWithBookingAndCommentsDto;
+import ru.practicum.shareit.item.service.ItemService;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ItemServiceBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"0", "10000"})
+    private int itemCacheSize;
+
+    private ConfigurableApplicationContext context;
+    private ItemService itemService;
+
+    @Setup
+    public void setUp() {
+        BenchmarkDatabase.seed();
+        context = BenchmarkDatabase.startServer("shareit.item-cache.max-size=" + itemCacheSize);
+        itemService = context.getBean(ItemService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ItemWithBookingAndCommentsDto itemByIdAsOwner() {
+        long itemId = ThreadLocalRandom.current().nextInt(BenchmarkDatabase.ITEMS) + 1;
+        return itemService.getItemById((itemId - 1) / 10 + 1, itemId);
+    }
+
+    @Benchmark
+    public ItemWithBookingAndCommentsDto itemByIdAsOther() {
+        long itemId = ThreadLocalRandom.current().nextInt(BenchmarkDatabase.ITEMS) + 1;
+        return itemService.getItemById((itemId - 1) / 10 % BenchmarkDatabase.USERS + 2, itemId);
+    }
+
+    @Benchmark
+    public List<ItemWithBookingAndCommentsDto> userItems() {
+        long userId = ThreadLocalRandom.current().nextInt(BenchmarkDatabase.USERS) + 1;
+        return itemService.getAllUserItems(userId, 0, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,113 @@
+package ru.practicum.shareit.bench;
+
+import org.modelmapper.AbstractConverter;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.dto.BookingOutputDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.comment.dto.CommentOutputDto;
+import ru.practicum.shareit.item.comment.model.Comment;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemWithBookingAndCommentsDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.mapper.BookingMapper;
+import ru.practicum.shareit.mapper.CommentMapper;
+import ru.practicum.shareit.mapper.ItemMapper;
+import ru.practicum.shareit.mapper.ItemRequestMapper;
+import ru.practicum.shareit.request.dto.ItemRequestWithAnswersDto;
+import ru.practicum.shareit.request.model.ItemRequest;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+    private ModelMapper modelMapper;
+    private Booking booking;
+    private Item item;
+    private Comment comment;
+    private ItemRequest itemRequest;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        modelMapper.addConverter(new AbstractConverter<Comment, CommentOutputDto>() {
+            @Override
+            protected CommentOutputDto convert(Comment source) {
+                return CommentOutputDto.builder()
+                        .id(source.getId())
+                        .text(source.getText())
+                        .authorName(source.getAuthor().getName())
+                        .created(source.getCreatedDate())
+                        .build();
+            }
+        });
+        booking = BenchmarkData.booking(2);
+        item = BenchmarkData.item(2);
+        comment = BenchmarkData.comment(1, item);
+        itemRequest = BenchmarkData.request(1);
+    }
+
+    @Benchmark
+    public BookingOutputDto bookingModelMapper() {
+        return modelMapper.map(booking, BookingOutputDto.class);
+    }
+
+    @Benchmark
+    public BookingOutputDto bookingStaticMapper() {
+        return BookingMapper.toBookingOutputDto(booking);
+    }
+
+    @Benchmark
+    public ItemDto itemModelMapper() {
+        return modelMapper.map(item, ItemDto.class);
+    }
+
+    @Benchmark
+    public ItemDto itemStaticMapper() {
+        return ItemMapper.toItemDto(item);
+    }
+
+    @Benchmark
+    public ItemWithBookingAndCommentsDto itemDetailsModelMapper() {
+        return modelMapper.map(item, ItemWithBookingAndCommentsDto.class);
+    }
+
+    @Benchmark
+    public ItemWithBookingAndCommentsDto itemDetailsStaticMapper() {
+        return ItemMapper.toItemWithBookingAndCommentsDto(item);
+    }
+
+    @Benchmark
+    public CommentOutputDto commentModelMapper() {
+        return modelMapper.map(comment, CommentOutputDto.class);
+    }
+
+    @Benchmark
+    public CommentOutputDto commentStaticMapper() {
+        return CommentMapper.toCommentOutputDto(comment);
+    }
+
+    @Benchmark
+    public ItemRequestWithAnswersDto requestModelMapper() {
+        return modelMapper.map(itemRequest, ItemRequestWithAnswersDto.class);
+    }
+
+    @Benchmark
+    public ItemRequestWithAnswersDto requestStaticMapper() {
+        return ItemRequestMapper.toItemRequestWithAnswersDto(itemRequest);
+    }
+}
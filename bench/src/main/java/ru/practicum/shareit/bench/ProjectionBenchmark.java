@@ -0,0 +1,109 @@
+package ru.practicum.shareit.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.dto.BookingOutputDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.mapper.BookingMapper;
+import ru.practicum.shareit.mapper.ItemMapper;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ProjectionBenchmark {
+    private static final int PAGE_SIZE = 10000;
+    private static final String SEARCH_TEXT = "вещь";
+
+    @Param({"entity", "projection"})
+    private String fetch;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transaction;
+    private EntityManager entityManager;
+    private BookingRepository bookingRepository;
+    private ItemRepository itemRepository;
+
+    @Setup
+    public void setUp() {
+        BenchmarkDatabase.seed();
+        context = BenchmarkDatabase.startServer();
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        entityManager = context.getBean(EntityManager.class);
+        bookingRepository = context.getBean(BookingRepository.class);
+        itemRepository = context.getBean(ItemRepository.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookingOutputDto> bookingPage() {
+        return transaction.execute(status -> "entity".equals(fetch) ? bookingEntities() : bookingProjections());
+    }
+
+    @Benchmark
+    public List<ItemDto> searchPage() {
+        return transaction.execute(status -> "entity".equals(fetch) ? itemEntities() : itemProjections());
+    }
+
+    private List<BookingOutputDto> bookingEntities() {
+        return entityManager.createQuery("select b from Booking b order by b.start desc, b.id desc", Booking.class)
+                .setHint("javax.persistence.fetchgraph", entityManager.getEntityGraph("Booking.details"))
+                .setMaxResults(PAGE_SIZE)
+                .getResultStream()
+                .map(BookingMapper::toBookingOutputDto)
+                .collect(toList());
+    }
+
+    private List<BookingOutputDto> bookingProjections() {
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "start", "id"));
+        return bookingRepository.findBookingOutputs((root, query, cb) -> null, pageable);
+    }
+
+    private List<ItemDto> itemEntities() {
+        return entityManager.createQuery("select i from Item i " +
+                        "where (upper(i.name) like upper(concat('%', ?1, '%')) " +
+                        "or upper(i.description) like upper(concat('%', ?1, '%'))) " +
+                        "and i.available = true", Item.class)
+                .setParameter(1, SEARCH_TEXT)
+                .setMaxResults(PAGE_SIZE)
+                .getResultStream()
+                .map(ItemMapper::toItemDto)
+                .collect(toList());
+    }
+
+    private List<ItemDto> itemProjections() {
+        return itemRepository.search(SEARCH_TEXT, PageRequest.of(0, PAGE_SIZE));
+    }
+}
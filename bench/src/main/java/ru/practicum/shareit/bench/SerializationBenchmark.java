@@ -0,0 +1,78 @@
+package ru.practicum.shareit.bench;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.dto.BookingOutputDto;
+import ru.practicum.shareit.item.dto.ItemWithBookingAndCommentsDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.mapper.BookingMapper;
+import ru.practicum.shareit.mapper.CommentMapper;
+import ru.practicum.shareit.mapper.ItemMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+    private static final int COMMENTS_PER_ITEM = 5;
+
+    @Param({"20", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<BookingOutputDto> bookings;
+    private List<ItemWithBookingAndCommentsDto> items;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        bookings = BenchmarkData.bookings(size).stream()
+                .map(BookingMapper::toBookingOutputDto)
+                .collect(toList());
+        items = BenchmarkData.items(size).stream()
+                .map(this::itemDetails)
+                .collect(toList());
+    }
+
+    @Benchmark
+    public byte[] bookingOutputDtoList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(bookings);
+    }
+
+    @Benchmark
+    public byte[] itemWithBookingAndCommentsDtoList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(items);
+    }
+
+    private ItemWithBookingAndCommentsDto itemDetails(Item item) {
+        ItemWithBookingAndCommentsDto dto = ItemMapper.toItemWithBookingAndCommentsDto(item);
+        dto.setLastBooking(BookingMapper.toBookingForItemDto(BenchmarkData.booking(item.getId())));
+        dto.setNextBooking(BookingMapper.toBookingForItemDto(BenchmarkData.booking(item.getId() + 1)));
+        dto.setComments(BenchmarkData.comments(item, COMMENTS_PER_ITEM).stream()
+                .map(CommentMapper::toCommentOutputDto)
+                .collect(toList()));
+        return dto;
+    }
+}
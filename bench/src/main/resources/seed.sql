@@ -0,0 +1,34 @@
+INSERT INTO users (name, email)
+SELECT 'user' || g, 'user' || g || '@bench.ru'
+FROM generate_series(1, 1000) AS g;
+
+INSERT INTO requests (description, requester_id, created_date)
+SELECT 'Нужна ' || lower((ARRAY['дрель', 'отвертка', 'пила', 'палатка', 'лестница'])[g % 5 + 1]),
+       g % 1000 + 1,
+       date_trunc('day', now()) - g * interval '1 hour'
+FROM generate_series(1, 2000) AS g;
+
+INSERT INTO items (name, description, is_available, owner_id, request_id)
+SELECT (ARRAY['Дрель', 'Отвертка', 'Пила', 'Молоток', 'Лестница',
+              'Палатка', 'Велосипед', 'Фотоаппарат', 'Проектор', 'Самокат'])[g % 10 + 1] || ' ' || g,
+       (ARRAY['Простая', 'Ударная', 'Аккумуляторная', 'Складная', 'Профессиональная'])[g % 5 + 1]
+           || ' вещь в хорошем состоянии, выдаю с инструкцией',
+       g % 7 <> 0,
+       (g - 1) / 10 + 1,
+       CASE WHEN g % 5 = 0 THEN g / 5 % 2000 + 1 END
+FROM generate_series(1, 10000) AS g;
+
+INSERT INTO booking (start_date, end_date, item_id, booker_id, status)
+SELECT date_trunc('day', now()) + ((g - 1) % 10 - 5) * interval '20 days',
+       date_trunc('day', now()) + ((g - 1) % 10 - 5) * interval '20 days' + interval '3 days',
+       (g - 1) / 10 + 1,
+       ((g - 1) / 10 / 10 + 1 + g % 999) % 1000 + 1,
+       (ARRAY['APPROVED', 'APPROVED', 'APPROVED', 'WAITING', 'REJECTED'])[g % 5 + 1]
+FROM generate_series(1, 100000) AS g;
+
+INSERT INTO comments (text, item_id, author_id, created_date)
+SELECT 'Отличная вещь, всё работает', (g - 1) / 2 % 10000 + 1, g % 1000 + 1,
+       date_trunc('day', now()) - g * interval '1 minute'
+FROM generate_series(1, 20000) AS g;
+
+ANALYZE;
@@ -1,4 +1,8 @@
 DROP TABLE IF EXISTS users, items, booking, comments, requests;
+DROP SEQUENCE IF EXISTS booking_id_seq;
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS btree_gist;
 
 CREATE TABLE IF NOT EXISTS users (
   id             BIGINT        GENERATED BY DEFAULT AS IDENTITY,
@@ -23,19 +27,35 @@ CREATE TABLE IF NOT EXISTS items (
   is_available   BOOLEAN       NOT NULL,
   owner_id       BIGINT        NOT NULL REFERENCES users(id) ON DELETE CASCADE,
   request_id     BIGINT        REFERENCES requests(id) ON DELETE CASCADE,
+  search_vector  TSVECTOR      GENERATED ALWAYS AS (
+      to_tsvector('russian', name || ' ' || coalesce(description, ''))) STORED,
   CONSTRAINT pk_item PRIMARY KEY (id)
   );
 
+CREATE INDEX IF NOT EXISTS ix_items_owner ON items (owner_id);
+CREATE INDEX IF NOT EXISTS ix_items_search_vector ON items USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS ix_items_name_trgm ON items USING GIN (upper(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS ix_items_description_trgm ON items USING GIN (upper(description) gin_trgm_ops);
+
+CREATE SEQUENCE IF NOT EXISTS booking_id_seq INCREMENT BY 50;
+
  CREATE TABLE IF NOT EXISTS booking (
-    id           BIGINT        GENERATED BY DEFAULT AS IDENTITY,
+    id           BIGINT        DEFAULT nextval('booking_id_seq'),
     start_date   TIMESTAMP     WITHOUT TIME ZONE NOT NULL,
     end_date     TIMESTAMP     WITHOUT TIME ZONE NOT NULL,
     item_id      BIGINT        NOT NULL REFERENCES items(id) ON DELETE CASCADE,
     booker_id    BIGINT        NOT NULL REFERENCES users(id) ON DELETE CASCADE,
     status       VARCHAR(16)   NOT NULL,
-    CONSTRAINT pk_booking PRIMARY KEY (id)
+    CONSTRAINT pk_booking PRIMARY KEY (id),
+    CONSTRAINT ex_booking_approved_overlap EXCLUDE USING GIST (
+        item_id WITH =, tsrange(start_date, end_date) WITH &&) WHERE (status = 'APPROVED')
 );
 
+CREATE INDEX IF NOT EXISTS ix_booking_booker_start ON booking (booker_id, start_date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS ix_booking_booker_status_start ON booking (booker_id, status, start_date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS ix_booking_item_start ON booking (item_id, start_date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS ix_booking_item_status_start ON booking (item_id, status, start_date DESC, id DESC);
+
 CREATE TABLE IF NOT EXISTS comments(
     id           BIGINT        GENERATED BY DEFAULT AS IDENTITY,
     text         VARCHAR(512)  NOT NULL,
@@ -0,0 +1,71 @@
+package ru.practicum.shareit.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.ShareItGateway;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class GatewayLoadTest {
+    private static final String MODES = System.getProperty("load.modes", "blocking,reactive");
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 200);
+    private static final int TOMCAT_THREADS = Integer.getInteger("load.tomcat-threads", 20);
+    private static final Duration SERVER_DELAY = Duration.ofMillis(Long.getLong("load.server-delay-ms", 200));
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmup-seconds", 3));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.duration-seconds", 10));
+    private static final String PATH = System.getProperty("load.path", "/items/1");
+    private static final String RESULT_FILE = System.getProperty("load.result", "gateway-load-result.json");
+
+    private GatewayLoadTest() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        List<Map<String, Object>> results = new ArrayList<>();
+        try (StubServer server = new StubServer(SERVER_DELAY)) {
+            for (String mode : MODES.split(",")) {
+                results.add(run(mode.trim(), server, args));
+            }
+        }
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(new File(RESULT_FILE), results);
+        results.forEach(System.out::println);
+        System.out.println("Results written to " + RESULT_FILE);
+    }
+
+    private static Map<String, Object> run(String mode, StubServer server, String[] args)
+            throws InterruptedException {
+        List<String> properties = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--server.tomcat.threads.max=" + TOMCAT_THREADS,
+                "--server.tomcat.threads.min-spare=" + TOMCAT_THREADS,
+                "--shareit-server.url=" + server.url(),
+                "--shareit-server.client.mode=" + mode,
+                "--shareit-gateway.rate-limit.enabled=false",
+                "--shareit-server.resilience.enabled=false",
+                "--logging.level.root=WARN"));
+        properties.addAll(List.of(args));
+        try (ConfigurableApplicationContext gateway = new SpringApplicationBuilder(ShareItGateway.class)
+                .run(properties.toArray(new String[0]))) {
+            int port = ((WebServerApplicationContext) gateway).getWebServer().getPort();
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("mode", mode);
+            result.put("concurrency", CONCURRENCY);
+            result.put("tomcatThreads", TOMCAT_THREADS);
+            result.put("serverDelayMillis", SERVER_DELAY.toMillis());
+            result.putAll(new LoadGenerator().run(URI.create("http://localhost:" + port + PATH),
+                    CONCURRENCY, WARMUP, DURATION, server::requests));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package ru.practicum.shareit.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.ShareItGateway;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class HedgingBenchmark {
+    private static final String MODES = System.getProperty("hedging.modes", "blocking,reactive");
+    private static final int CONCURRENCY = Integer.getInteger("hedging.concurrency", 8);
+    private static final long SCALE_MILLIS = Long.getLong("hedging.pareto-scale-ms", 50);
+    private static final double SHAPE = Double.parseDouble(System.getProperty("hedging.pareto-shape", "1.5"));
+    private static final long MAX_DELAY_MILLIS = Long.getLong("hedging.max-delay-ms", 2000);
+    private static final boolean TWO_SERVERS = Boolean.getBoolean("hedging.two-servers");
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("hedging.warmup-seconds", 5));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("hedging.duration-seconds", 30));
+    private static final String PATH = System.getProperty("hedging.path", "/items/1");
+    private static final String RESULT_FILE = System.getProperty("hedging.result", "gateway-hedging-result.json");
+
+    private HedgingBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        List<Map<String, Object>> results = new ArrayList<>();
+        try (StubServer server = new StubServer(Duration.ZERO);
+             StubServer alternate = new StubServer(Duration.ZERO)) {
+            server.setDelay(HedgingBenchmark::paretoDelay);
+            alternate.setDelay(HedgingBenchmark::paretoDelay);
+            for (String mode : MODES.split(",")) {
+                results.add(run(mode.trim(), false, server, alternate, args));
+                results.add(run(mode.trim(), true, server, alternate, args));
+            }
+        }
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(new File(RESULT_FILE), results);
+        results.forEach(System.out::println);
+        System.out.println("Results written to " + RESULT_FILE);
+    }
+
+    private static long paretoDelay() {
+        double uniform = 1 - ThreadLocalRandom.current().nextDouble();
+        return Math.min(MAX_DELAY_MILLIS, Math.round(SCALE_MILLIS / Math.pow(uniform, 1 / SHAPE)));
+    }
+
+    private static Map<String, Object> run(String mode, boolean hedging, StubServer server, StubServer alternate,
+                                           String[] args) throws InterruptedException {
+        List<String> properties = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--shareit-server.url=" + server.url() + (TWO_SERVERS ? "," + alternate.url() : ""),
+                "--shareit-server.client.mode=" + mode,
+                "--shareit-gateway.rate-limit.enabled=false",
+                "--shareit-server.coalescing.routes=",
+                "--shareit-server.hedging.enabled=" + hedging,
+                "--logging.level.root=WARN"));
+        properties.addAll(List.of(args));
+        try (ConfigurableApplicationContext gateway = new SpringApplicationBuilder(ShareItGateway.class)
+                .run(properties.toArray(new String[0]))) {
+            int port = ((WebServerApplicationContext) gateway).getWebServer().getPort();
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("mode", mode);
+            result.put("hedging", hedging);
+            result.put("concurrency", CONCURRENCY);
+            result.put("paretoScaleMillis", SCALE_MILLIS);
+            result.put("paretoShape", SHAPE);
+            result.putAll(new LoadGenerator().run(URI.create("http://localhost:" + port + PATH),
+                    CONCURRENCY, WARMUP, DURATION, () -> server.requests() + alternate.requests()));
+            result.put("hedges", hedges(gateway.getBean(MeterRegistry.class)));
+            return result;
+        }
+    }
+
+    private static Map<String, Double> hedges(MeterRegistry meterRegistry) {
+        Map<String, Double> hedges = new TreeMap<>();
+        for (Counter counter : meterRegistry.find("shareit.gateway.hedging.hedges").counters()) {
+            hedges.merge(counter.getId().getTag("result"), counter.count(), Double::sum);
+        }
+        return hedges;
+    }
+}
@@ -0,0 +1,93 @@
+package ru.practicum.shareit.bench;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+final class LoadGenerator {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    Map<String, Object> run(URI uri, int concurrency, Duration warmup, Duration duration, LongSupplier serverRequests)
+            throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("X-Sharer-User-Id", "1")
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+        runPhase(request, concurrency, warmup, new Recorder());
+        Recorder recorder = new Recorder();
+        long serverRequestsBefore = serverRequests.getAsLong();
+        runPhase(request, concurrency, duration, recorder);
+        Map<String, Object> summary = recorder.summary(duration);
+        summary.put("serverRequests", serverRequests.getAsLong() - serverRequestsBefore);
+        return summary;
+    }
+
+    private void runPhase(HttpRequest request, int concurrency, Duration duration, Recorder recorder)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        CountDownLatch finished = new CountDownLatch(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            sendUntil(request, deadline, recorder, finished);
+        }
+        finished.await();
+    }
+
+    private void sendUntil(HttpRequest request, long deadline, Recorder recorder, CountDownLatch finished) {
+        long start = System.nanoTime();
+        if (start >= deadline) {
+            finished.countDown();
+            return;
+        }
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    recorder.record(System.nanoTime() - start, error == null && response.statusCode() == 200);
+                    sendUntil(request, deadline, recorder, finished);
+                });
+    }
+
+    private static final class Recorder {
+        private final LongAdder succeeded = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+
+        void record(long latencyNanos, boolean success) {
+            if (success) succeeded.increment();
+            else failed.increment();
+            latencies.add(latencyNanos);
+        }
+
+        Map<String, Object> summary(Duration duration) {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", sorted.length);
+            summary.put("errors", failed.sum());
+            summary.put("throughputPerSecond", succeeded.sum() * 1000.0 / duration.toMillis());
+            summary.put("p50Millis", percentile(sorted, 0.50));
+            summary.put("p90Millis", percentile(sorted, 0.90));
+            summary.put("p99Millis", percentile(sorted, 0.99));
+            summary.put("p999Millis", percentile(sorted, 0.999));
+            summary.put("maxMillis", sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0);
+            return summary;
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) return 0;
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+        }
+    }
+}
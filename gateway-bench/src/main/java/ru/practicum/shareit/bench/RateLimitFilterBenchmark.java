@@ -0,0 +1,120 @@
+package ru.practicum.shareit.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.ratelimit.RateLimitFilter;
+import ru.practicum.shareit.ratelimit.RouteClass;
+import ru.practicum.shareit.ratelimit.UserRateLimiter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.lang.reflect.Proxy;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class RateLimitFilterBenchmark {
+    private static final FilterChain CHAIN = (request, response) -> {
+    };
+
+    @Param({"1", "100000", "10000000"})
+    private int users;
+
+    @Param({"1000000000", "100"})
+    private double readsPerSecond;
+
+    private RateLimitFilter filter;
+
+    @Setup
+    public void setUp() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Map<RouteClass, UserRateLimiter> limiters = new EnumMap<>(RouteClass.class);
+        limiters.put(RouteClass.READ, new UserRateLimiter("read", 200, readsPerSecond, 100_000, meterRegistry));
+        limiters.put(RouteClass.WRITE, new UserRateLimiter("write", 50, 20, 100_000, meterRegistry));
+        filter = new RateLimitFilter(limiters, new ObjectMapper());
+    }
+
+    @Benchmark
+    public void withoutFilter(Caller caller) throws Exception {
+        CHAIN.doFilter(caller.next(users), caller.response);
+    }
+
+    @Benchmark
+    public void withFilter(Caller caller) throws Exception {
+        filter.doFilter(caller.next(users), caller.response, CHAIN);
+    }
+
+    @State(Scope.Thread)
+    public static class Caller {
+        private final HttpServletRequest request = stub(HttpServletRequest.class, this);
+        private final HttpServletResponse response = stub(HttpServletResponse.class, this);
+        private final ServletOutputStream body = new DiscardingOutputStream();
+        private String userId;
+
+        HttpServletRequest next(int users) {
+            userId = String.valueOf(ThreadLocalRandom.current().nextInt(users));
+            return request;
+        }
+
+        private static <T> T stub(Class<T> type, Caller caller) {
+            Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    (instance, method, args) -> {
+                        switch (method.getName()) {
+                            case "getHeader":
+                                return "X-Sharer-User-Id".equals(args[0]) ? caller.userId : null;
+                            case "getMethod":
+                                return "GET";
+                            case "getRequestURI":
+                                return "/items/1";
+                            case "getOutputStream":
+                                return caller.body;
+                            default:
+                                return boolean.class.equals(method.getReturnType()) ? false : null;
+                        }
+                    });
+            return type.cast(proxy);
+        }
+    }
+
+    private static final class DiscardingOutputStream extends ServletOutputStream {
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+        }
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+}
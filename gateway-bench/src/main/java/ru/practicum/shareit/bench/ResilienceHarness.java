@@ -0,0 +1,134 @@
+package ru.practicum.shareit.bench;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.ShareItGateway;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class ResilienceHarness {
+    private static final String MODE = System.getProperty("harness.mode", "blocking");
+    private static final int CONCURRENCY = Integer.getInteger("harness.concurrency", 50);
+    private static final Duration PHASE = Duration.ofSeconds(Long.getLong("harness.phase-seconds", 5));
+    private static final String PATH = System.getProperty("harness.path", "/items/1");
+    private static final Duration HEALTHY_DELAY = Duration.ofMillis(20);
+    private static final Duration SLOW_DELAY = Duration.ofSeconds(2);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private ResilienceHarness() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        try (StubServer server = new StubServer(HEALTHY_DELAY)) {
+            List<String> properties = new ArrayList<>(List.of(
+                    "--server.port=0",
+                    "--server.tomcat.threads.max=100",
+                    "--shareit-server.url=" + server.url(),
+                    "--shareit-server.client.mode=" + MODE,
+                    "--shareit-gateway.rate-limit.enabled=false",
+                    "--shareit-server.coalescing.routes=",
+                    "--shareit-server.resilience.bulkhead.max-concurrent-calls=20",
+                    "--shareit-server.resilience.circuit-breaker.minimum-calls=10",
+                    "--shareit-server.resilience.circuit-breaker.open-duration=2s",
+                    "--shareit-server.resilience.circuit-breaker.half-open-calls=3",
+                    "--shareit-server.resilience.timeouts.default-timeout=1s",
+                    "--logging.level.root=WARN"));
+            properties.addAll(List.of(args));
+            try (ConfigurableApplicationContext gateway = new SpringApplicationBuilder(ShareItGateway.class)
+                    .run(properties.toArray(new String[0]))) {
+                int port = ((WebServerApplicationContext) gateway).getWebServer().getPort();
+                URI uri = URI.create("http://localhost:" + port + PATH);
+                MeterRegistry meterRegistry = gateway.getBean(MeterRegistry.class);
+                ResilienceHarness harness = new ResilienceHarness();
+                harness.phase("warmup", uri, server, meterRegistry);
+                harness.phase("healthy", uri, server, meterRegistry);
+                server.setDelay(SLOW_DELAY);
+                harness.phase("slow", uri, server, meterRegistry);
+                server.setDelay(HEALTHY_DELAY);
+                server.setStatus(500);
+                harness.phase("failing", uri, server, meterRegistry);
+                server.setStatus(200);
+                harness.phase("recovered", uri, server, meterRegistry);
+            }
+        }
+    }
+
+    private void phase(String name, URI uri, StubServer server, MeterRegistry meterRegistry)
+            throws InterruptedException {
+        Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        long serverRequests = server.requests();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("X-Sharer-User-Id", "1")
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + PHASE.toNanos();
+        CountDownLatch finished = new CountDownLatch(CONCURRENCY);
+        for (int i = 0; i < CONCURRENCY; i++) {
+            sendUntil(request, deadline, statuses, latencies, finished);
+        }
+        finished.await();
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        Map<Integer, Long> counts = new TreeMap<>();
+        statuses.forEach((status, count) -> counts.put(status, count.sum()));
+        System.out.printf("%-10s statuses=%s serverRequests=%d p50=%.1fms p99=%.1fms breaker=%s rejected=%s%n",
+                name, counts, server.requests() - serverRequests, percentile(sorted, 0.50),
+                percentile(sorted, 0.99), breakerState(meterRegistry), rejected(meterRegistry));
+    }
+
+    private void sendUntil(HttpRequest request, long deadline, Map<Integer, LongAdder> statuses,
+                           Queue<Long> latencies, CountDownLatch finished) {
+        long start = System.nanoTime();
+        if (start >= deadline) {
+            finished.countDown();
+            return;
+        }
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    int status = error == null ? response.statusCode() : -1;
+                    statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+                    latencies.add(System.nanoTime() - start);
+                    sendUntil(request, deadline, statuses, latencies, finished);
+                });
+    }
+
+    private static String breakerState(MeterRegistry meterRegistry) {
+        Gauge gauge = meterRegistry.find("shareit.gateway.circuit-breaker.state").tag("client", "items").gauge();
+        if (gauge == null) return "n/a";
+        return List.of("CLOSED", "OPEN", "HALF_OPEN").get((int) gauge.value());
+    }
+
+    private static Map<String, Double> rejected(MeterRegistry meterRegistry) {
+        Map<String, Double> rejected = new TreeMap<>();
+        meterRegistry.find("shareit.gateway.server.rejected").tag("client", "items").counters()
+                .forEach(counter -> rejected.put(counter.getId().getTag("reason"), counter.count()));
+        return rejected;
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,79 @@
+package ru.practicum.shareit.bench;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+final class StubServer implements AutoCloseable {
+    private static final byte[] ITEM = ("{\"id\":1,\"name\":\"Дрель\",\"description\":\"Простая дрель\","
+            + "\"available\":true,\"lastBooking\":null,\"nextBooking\":null,\"requestId\":null,\"comments\":[]}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    static {
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicLong requests = new AtomicLong();
+    private volatile LongSupplier delayMillis;
+    private volatile int status = 200;
+
+    StubServer(Duration delay) throws IOException {
+        setDelay(delay);
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    String url() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    void setDelay(Duration delay) {
+        long millis = delay.toMillis();
+        this.delayMillis = () -> millis;
+    }
+
+    void setDelay(LongSupplier delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    void setStatus(int status) {
+        this.status = status;
+    }
+
+    long requests() {
+        return requests.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try {
+            Thread.sleep(delayMillis.getAsLong());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, ITEM.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(ITEM);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -1,40 +1,80 @@
 package ru.practicum.shareit.booking.client;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ServerExchangeFactory;
+import ru.practicum.shareit.exception.ErrorResponse;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 
 @Service
 public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
+    private static final TypeReference<List<BookingBatchResultDto>> BATCH_RESULTS = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-        );
+    public BookingClient(ServerExchangeFactory exchangeFactory, ObjectMapper objectMapper) {
+        super(exchangeFactory.create(API_PREFIX));
+        this.objectMapper = objectMapper;
     }
 
-    public ResponseEntity<Object> createBooking(long userId, BookingDto bookingDto) {
+    public Mono<ResponseEntity<Object>> createBooking(long userId, BookingDto bookingDto) {
         return post("", userId, bookingDto);
     }
 
-    public ResponseEntity<Object> approveBooking(long userId, long bookingId, String approved) {
+    public Mono<ResponseEntity<Object>> createBookings(long userId, List<BookingDto> bookingDtos,
+                                                       Map<Integer, ErrorResponse> rejected) {
+        List<Integer> accepted = new ArrayList<>();
+        List<BookingDto> toSend = new ArrayList<>();
+        for (int i = 0; i < bookingDtos.size(); i++) {
+            if (rejected.containsKey(i)) continue;
+            accepted.add(i);
+            toSend.add(bookingDtos.get(i));
+        }
+        if (toSend.isEmpty()) return Mono.just(ResponseEntity.ok(mergeResults(List.of(), accepted, rejected)));
+        return post("/batch", userId, toSend).map(response -> {
+            if (!response.getStatusCode().is2xxSuccessful()) return response;
+            return ResponseEntity.ok(mergeResults(readResults(response.getBody()), accepted, rejected));
+        });
+    }
+
+    public Mono<ResponseEntity<Object>> decideBookings(long userId, List<BookingDecisionDto> decisions) {
+        return patch("/batch", userId, decisions);
+    }
+
+    public Mono<ResponseEntity<Object>> approveBooking(long userId, long bookingId, String approved) {
         return patch("/" + bookingId + "?approved=" + approved, userId);
     }
 
-    public ResponseEntity<Object> getAllUserBooking(long userId, Integer from, Integer size, String state) {
+    public Mono<ResponseEntity<Object>> getAllUserBooking(long userId, Integer from, Integer size, String state,
+                                                 String cursor) {
+        if (cursor != null) {
+            Map<String, Object> parameters = Map.of(
+                    "state", state,
+                    "from", from,
+                    "size", size,
+                    "cursor", cursor
+            );
+            return get("?state={state}&from={from}&size={size}&cursor={cursor}", userId, parameters);
+        }
         Map<String, Object> parameters = Map.of(
                 "state", state,
                 "from", from,
@@ -43,7 +83,17 @@ public class BookingClient extends BaseClient {
         return get("?state={state}&from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> getOwnerBooking(long userId, Integer from, Integer size, String state) {
+    public Mono<ResponseEntity<Object>> getOwnerBooking(long userId, Integer from, Integer size, String state,
+                                                 String cursor) {
+        if (cursor != null) {
+            Map<String, Object> parameters = Map.of(
+                    "state", state,
+                    "from", from,
+                    "size", size,
+                    "cursor", cursor
+            );
+            return get("/owner?state={state}&from={from}&size={size}&cursor={cursor}", userId, parameters);
+        }
         Map<String, Object> parameters = Map.of(
                 "state", state,
                 "from", from,
@@ -52,7 +102,32 @@ public class BookingClient extends BaseClient {
         return get("/owner?state={state}&from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> getBookingById(long userId, long bookingId) {
+    public Mono<ResponseEntity<Object>> getBookingById(long userId, long bookingId) {
         return get("/" + bookingId, userId);
     }
+
+    private List<BookingBatchResultDto> readResults(Object body) {
+        if (!(body instanceof byte[])) return objectMapper.convertValue(body, BATCH_RESULTS);
+        try {
+            return objectMapper.readValue((byte[]) body, BATCH_RESULTS);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<BookingBatchResultDto> mergeResults(List<BookingBatchResultDto> serverResults,
+                                                            List<Integer> accepted,
+                                                            Map<Integer, ErrorResponse> rejected) {
+        List<BookingBatchResultDto> results = new ArrayList<>(serverResults.size() + rejected.size());
+        for (BookingBatchResultDto result : serverResults) {
+            results.add(result.toBuilder().index(accepted.get(result.getIndex())).build());
+        }
+        rejected.forEach((index, error) -> results.add(BookingBatchResultDto.builder()
+                .index(index)
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error(error)
+                .build()));
+        results.sort(Comparator.comparingInt(BookingBatchResultDto::getIndex));
+        return results;
+    }
 }
\ No newline at end of file
@@ -4,13 +4,25 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.booking.client.BookingClient;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingState;
+import ru.practicum.shareit.exception.ErrorResponse;
 
+import javax.validation.ConstraintViolation;
 import javax.validation.Valid;
+import javax.validation.Validator;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import javax.validation.constraints.Size;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequiredArgsConstructor
@@ -18,41 +30,73 @@ import javax.validation.constraints.PositiveOrZero;
 @RequestMapping(path = "/bookings")
 public class BookingController {
     private final BookingClient bookingService;
+    private final Validator validator;
 
     @PostMapping
-    public ResponseEntity<Object> createBooking(@Valid @RequestBody BookingDto bookingDto,
+    public Mono<ResponseEntity<Object>> createBooking(@Valid @RequestBody BookingDto bookingDto,
                                                 @RequestHeader("X-Sharer-User-Id") long userId) {
         return bookingService.createBooking(userId, bookingDto);
     }
 
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<Object>> createBookings(
+            @NotEmpty(message = "список броней не может быть пустым")
+            @Size(max = 500, message = "за один запрос можно создать не больше 500 броней")
+            @RequestBody List<BookingDto> bookingDtos,
+            @RequestHeader("X-Sharer-User-Id") long userId) {
+        Map<Integer, ErrorResponse> rejected = new HashMap<>();
+        for (int i = 0; i < bookingDtos.size(); i++) {
+            BookingDto bookingDto = bookingDtos.get(i);
+            if (bookingDto == null) {
+                rejected.put(i, new ErrorResponse("Validation error", "бронь не может быть пустой"));
+                continue;
+            }
+            Set<ConstraintViolation<BookingDto>> violations = validator.validate(bookingDto);
+            if (!violations.isEmpty())
+                rejected.put(i, new ErrorResponse("Validation error", violations.iterator().next().getMessage()));
+        }
+        return bookingService.createBookings(userId, bookingDtos, rejected);
+    }
+
+    @PatchMapping("/batch")
+    public Mono<ResponseEntity<Object>> decideBookings(
+            @RequestHeader("X-Sharer-User-Id") long userId,
+            @NotEmpty(message = "список решений не может быть пустым")
+            @Size(max = 500, message = "за один запрос можно принять не больше 500 решений")
+            @RequestBody List<@NotNull(message = "решение не может быть пустым") @Valid BookingDecisionDto> decisions) {
+        return bookingService.decideBookings(userId, decisions);
+    }
+
     @PatchMapping("/{bookingId}")
-    public ResponseEntity<Object> approveBooking(@RequestHeader("X-Sharer-User-Id") long userId,
+    public Mono<ResponseEntity<Object>> approveBooking(@RequestHeader("X-Sharer-User-Id") long userId,
                                                  @PathVariable long bookingId,
                                                  @RequestParam boolean approved) {
         return bookingService.approveBooking(userId, bookingId, String.valueOf(approved));
     }
 
     @GetMapping("/{bookingId}")
-    public ResponseEntity<Object> getBookingById(@RequestHeader("X-Sharer-User-Id") long userId,
+    public Mono<ResponseEntity<Object>> getBookingById(@RequestHeader("X-Sharer-User-Id") long userId,
                                                  @PathVariable long bookingId) {
         return bookingService.getBookingById(userId, bookingId);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getAllUserBooking(
+    public Mono<ResponseEntity<Object>> getAllUserBooking(
             @RequestHeader("X-Sharer-User-Id") long userId,
             @RequestParam(defaultValue = "ALL") BookingState state,
             @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
-            @Positive @RequestParam(name = "size", defaultValue = "20") Integer size) {
-        return bookingService.getAllUserBooking(userId, from, size, state.name());
+            @Positive @RequestParam(name = "size", defaultValue = "20") Integer size,
+            @RequestParam(name = "cursor", required = false) String cursor) {
+        return bookingService.getAllUserBooking(userId, from, size, state.name(), cursor);
     }
 
     @GetMapping("/owner")
-    public ResponseEntity<Object> getOwnerBooking(
+    public Mono<ResponseEntity<Object>> getOwnerBooking(
             @RequestHeader("X-Sharer-User-Id") long userId,
             @RequestParam(defaultValue = "ALL") BookingState state,
             @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
-            @Positive @RequestParam(name = "size", defaultValue = "20") Integer size) {
-        return bookingService.getOwnerBooking(userId, from, size, state.name());
+            @Positive @RequestParam(name = "size", defaultValue = "20") Integer size,
+            @RequestParam(name = "cursor", required = false) String cursor) {
+        return bookingService.getOwnerBooking(userId, from, size, state.name(), cursor);
     }
 }
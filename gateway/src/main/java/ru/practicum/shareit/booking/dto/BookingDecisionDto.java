@@ -0,0 +1,19 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotNull;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+public class BookingDecisionDto {
+    @NotNull(message = "id брони не может быть пустым")
+    private Long bookingId;
+    @NotNull(message = "решение по брони не может быть пустым")
+    private Boolean approved;
+}
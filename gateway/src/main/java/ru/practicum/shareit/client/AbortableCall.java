@@ -0,0 +1,42 @@
+package ru.practicum.shareit.client;
+
+import org.apache.http.client.methods.HttpUriRequest;
+
+final class AbortableCall {
+    private static final ThreadLocal<AbortableCall> CURRENT = new ThreadLocal<>();
+
+    private HttpUriRequest request;
+    private boolean aborted;
+
+    private AbortableCall() {
+    }
+
+    static AbortableCall begin() {
+        AbortableCall call = new AbortableCall();
+        CURRENT.set(call);
+        return call;
+    }
+
+    static void attach(HttpUriRequest request) {
+        AbortableCall call = CURRENT.get();
+        if (call != null) call.setRequest(request);
+    }
+
+    void end() {
+        CURRENT.remove();
+    }
+
+    synchronized boolean isAborted() {
+        return aborted;
+    }
+
+    synchronized void abort() {
+        aborted = true;
+        if (request != null) request.abort();
+    }
+
+    private synchronized void setRequest(HttpUriRequest request) {
+        this.request = request;
+        if (aborted) request.abort();
+    }
+}
@@ -0,0 +1,114 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+public class CoalescingExchange implements ServerExchange {
+    private static final String USER_HEADER = "X-Sharer-User-Id";
+
+    private final ServerExchange delegate;
+    private final String apiPrefix;
+    private final List<Route> routes = new ArrayList<>();
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, Mono<ResponseEntity<Object>>> inFlight = new ConcurrentHashMap<>();
+
+    public CoalescingExchange(ServerExchange delegate, String apiPrefix, Collection<String> routes,
+                              Collection<String> userIndependentRoutes, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.apiPrefix = apiPrefix;
+        for (String pattern : routes) {
+            this.routes.add(new Route(pattern, userIndependentRoutes.contains(pattern), meterRegistry));
+        }
+        Gauge.builder("shareit.gateway.coalescing.in-flight", inFlight, Map::size)
+                .description("Upstream GET calls currently shared by concurrent requests")
+                .tag("client", apiPrefix)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> exchange(HttpMethod method, String path, HttpHeaders headers,
+                                                 @Nullable Map<String, Object> parameters, @Nullable Object body) {
+        Route route = method == HttpMethod.GET ? findRoute(path) : null;
+        if (route == null) return delegate.exchange(method, path, headers, parameters, body);
+        String key = key(route, path, headers, parameters);
+        return Mono.defer(() -> join(key, route, () -> delegate.exchange(method, path, headers, parameters, body)));
+    }
+
+    private Mono<ResponseEntity<Object>> join(String key, Route route, Supplier<Mono<ResponseEntity<Object>>> call) {
+        Mono<ResponseEntity<Object>> existing = inFlight.get(key);
+        if (existing != null) {
+            route.joined.increment();
+            return existing;
+        }
+        AtomicReference<Mono<ResponseEntity<Object>>> self = new AtomicReference<>();
+        Mono<ResponseEntity<Object>> flight = call.get()
+                .doFinally(signal -> inFlight.remove(key, self.get()))
+                .cache();
+        self.set(flight);
+        existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            route.joined.increment();
+            return existing;
+        }
+        route.leaders.increment();
+        return flight;
+    }
+
+    @Nullable
+    private Route findRoute(String path) {
+        int query = path.indexOf('?');
+        String routePath = apiPrefix + (query >= 0 ? path.substring(0, query) : path);
+        for (Route route : routes) {
+            if (pathMatcher.match(route.pattern, routePath)) return route;
+        }
+        return null;
+    }
+
+    private static String key(Route route, String path, HttpHeaders headers,
+                              @Nullable Map<String, Object> parameters) {
+        String uri = parameters != null
+                ? UriComponentsBuilder.fromUriString(path).buildAndExpand(parameters).toUriString()
+                : path;
+        if (route.userIndependent) return uri;
+        return uri + '#' + headers.getFirst(USER_HEADER);
+    }
+
+    private static final class Route {
+        private final String pattern;
+        private final boolean userIndependent;
+        private final Counter leaders;
+        private final Counter joined;
+
+        private Route(String pattern, boolean userIndependent, MeterRegistry meterRegistry) {
+            this.pattern = pattern;
+            this.userIndependent = userIndependent;
+            this.leaders = counter(meterRegistry, pattern, "upstream");
+            this.joined = counter(meterRegistry, pattern, "coalesced");
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, String pattern, String result) {
+            return Counter.builder("shareit.gateway.coalescing.requests")
+                    .description("GET requests on coalescable routes, by whether they called the server")
+                    .tag("route", pattern)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+}
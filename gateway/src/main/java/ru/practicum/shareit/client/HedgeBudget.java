@@ -0,0 +1,34 @@
+package ru.practicum.shareit.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class HedgeBudget {
+    private static final long HEDGE_COST = 100;
+
+    private final long deposit;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    public HedgeBudget(int percent, int burst) {
+        this.deposit = percent;
+        this.capacity = burst * HEDGE_COST;
+        this.balance = new AtomicLong(capacity);
+    }
+
+    public void deposit() {
+        long current;
+        do {
+            current = balance.get();
+            if (current >= capacity) return;
+        } while (!balance.compareAndSet(current, Math.min(capacity, current + deposit)));
+    }
+
+    public boolean tryWithdraw() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < HEDGE_COST) return false;
+        } while (!balance.compareAndSet(current, current - HEDGE_COST));
+        return true;
+    }
+}
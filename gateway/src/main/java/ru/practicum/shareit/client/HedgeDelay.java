@@ -0,0 +1,47 @@
+package ru.practicum.shareit.client;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class HedgeDelay {
+    private static final int RECALCULATE_EVERY = 64;
+
+    private final double percentile;
+    private final long minNanos;
+    private final long maxNanos;
+    private final int minimumSamples;
+    private final AtomicLongArray samples;
+    private final AtomicLong recorded = new AtomicLong();
+    private volatile long delayNanos;
+
+    public HedgeDelay(double percentile, Duration minDelay, Duration maxDelay, int window, int minimumSamples) {
+        this.percentile = percentile;
+        this.minNanos = minDelay.toNanos();
+        this.maxNanos = maxDelay.toNanos();
+        this.minimumSamples = minimumSamples;
+        this.samples = new AtomicLongArray(window);
+        this.delayNanos = maxNanos;
+    }
+
+    public long nanos() {
+        return delayNanos;
+    }
+
+    public void record(long latencyNanos) {
+        long count = recorded.incrementAndGet();
+        samples.set((int) ((count - 1) % samples.length()), latencyNanos);
+        if (count >= minimumSamples && count % RECALCULATE_EVERY == 0) recalculate(count);
+    }
+
+    private void recalculate(long count) {
+        long[] sorted = new long[(int) Math.min(count, samples.length())];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        int index = Math.max(0, (int) Math.ceil(percentile / 100 * sorted.length) - 1);
+        delayNanos = Math.max(minNanos, Math.min(maxNanos, sorted[index]));
+    }
+}
@@ -0,0 +1,158 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public class HedgingExchange implements ServerExchange {
+    private static final String ON_ERROR_DROPPED = "reactor.onErrorDropped.local";
+    private static final Consumer<Throwable> IGNORE_LOSER_ERRORS = error -> {
+    };
+
+    private final ServerExchange delegate;
+    private final String apiPrefix;
+    private final HedgeBudget budget;
+    private final Scheduler hedgeScheduler;
+    private final List<Route> routes = new ArrayList<>();
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    public HedgingExchange(ServerExchange delegate, String apiPrefix, String client,
+                           Collection<String> routes, Supplier<HedgeDelay> delays, HedgeBudget budget,
+                           Scheduler hedgeScheduler, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.apiPrefix = apiPrefix;
+        this.budget = budget;
+        this.hedgeScheduler = hedgeScheduler;
+        for (String pattern : routes) {
+            this.routes.add(new Route(pattern, client, delays.get(), meterRegistry));
+        }
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> exchange(HttpMethod method, String path, HttpHeaders headers,
+                                                 @Nullable Map<String, Object> parameters, @Nullable Object body) {
+        Route route = method == HttpMethod.GET ? findRoute(path) : null;
+        if (route == null) return delegate.exchange(method, path, headers, parameters, body);
+        return Mono.defer(() -> hedged(route, () -> delegate.exchange(method, path, headers, parameters, body)));
+    }
+
+    private Mono<ResponseEntity<Object>> hedged(Route route, Supplier<Mono<ResponseEntity<Object>>> call) {
+        budget.deposit();
+        long start = System.nanoTime();
+        AtomicBoolean hedged = new AtomicBoolean();
+        Mono<Attempt> primary = attempt(call.get(), false)
+                .doOnNext(attempt -> {
+                    if (attempt.answered()) route.delay.record(System.nanoTime() - start);
+                })
+                .doOnCancel(() -> route.delay.record(System.nanoTime() - start));
+        Mono<Attempt> secondary = Mono.delay(Duration.ofNanos(route.delay.nanos()))
+                .filter(tick -> startHedge(route, hedged))
+                .flatMap(tick -> attempt(call.get().subscribeOn(hedgeScheduler), true));
+        return Flux.merge(secondary, primary)
+                .takeUntil(attempt -> attempt.answered() || !attempt.hedge && !hedged.get())
+                .last()
+                .doOnNext(attempt -> {
+                    if (hedged.get()) (attempt.hedge && attempt.answered() ? route.won : route.lost).increment();
+                })
+                .flatMap(Attempt::toMono)
+                .contextWrite(LoadBalancedExchange::spreadAttempts)
+                .contextWrite(Context.of(ON_ERROR_DROPPED, IGNORE_LOSER_ERRORS));
+    }
+
+    private boolean startHedge(Route route, AtomicBoolean hedged) {
+        if (!budget.tryWithdraw()) {
+            route.throttled.increment();
+            return false;
+        }
+        hedged.set(true);
+        return true;
+    }
+
+    @Nullable
+    private Route findRoute(String path) {
+        int query = path.indexOf('?');
+        String routePath = apiPrefix + (query >= 0 ? path.substring(0, query) : path);
+        for (Route route : routes) {
+            if (pathMatcher.match(route.pattern, routePath)) return route;
+        }
+        return null;
+    }
+
+    private static Mono<Attempt> attempt(Mono<ResponseEntity<Object>> call, boolean hedge) {
+        return call
+                .map(response -> new Attempt(response, null, hedge))
+                .onErrorResume(error -> Mono.just(new Attempt(null, error, hedge)));
+    }
+
+    private static final class Attempt {
+        @Nullable
+        private final ResponseEntity<Object> response;
+        @Nullable
+        private final Throwable error;
+        private final boolean hedge;
+
+        private Attempt(@Nullable ResponseEntity<Object> response, @Nullable Throwable error, boolean hedge) {
+            this.response = response;
+            this.error = error;
+            this.hedge = hedge;
+        }
+
+        private boolean answered() {
+            return response != null && !response.getStatusCode().is5xxServerError();
+        }
+
+        private Mono<ResponseEntity<Object>> toMono() {
+            return response != null ? Mono.just(response) : Mono.error(error);
+        }
+    }
+
+    private static final class Route {
+        private final String pattern;
+        private final HedgeDelay delay;
+        private final Counter won;
+        private final Counter lost;
+        private final Counter throttled;
+
+        private Route(String pattern, String client, HedgeDelay delay, MeterRegistry meterRegistry) {
+            this.pattern = pattern;
+            this.delay = delay;
+            this.won = counter(meterRegistry, client, pattern, "won");
+            this.lost = counter(meterRegistry, client, pattern, "lost");
+            this.throttled = counter(meterRegistry, client, pattern, "throttled");
+            TimeGauge.builder("shareit.gateway.hedging.delay", delay, TimeUnit.NANOSECONDS, HedgeDelay::nanos)
+                    .description("Time a GET waits for the server before a hedged attempt is sent")
+                    .tag("client", client)
+                    .tag("route", pattern)
+                    .register(meterRegistry);
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, String client, String pattern, String result) {
+            return Counter.builder("shareit.gateway.hedging.hedges")
+                    .description("Hedged attempts, by whether they answered first or were skipped by the budget")
+                    .tag("client", client)
+                    .tag("route", pattern)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+}
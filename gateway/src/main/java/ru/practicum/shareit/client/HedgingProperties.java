@@ -0,0 +1,30 @@
+package ru.practicum.shareit.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties("shareit-server.hedging")
+public class HedgingProperties {
+    private boolean enabled;
+    private List<String> routes = new ArrayList<>(List.of("/**"));
+    private double percentile = 95;
+    private Duration minDelay = Duration.ofMillis(10);
+    private Duration maxDelay = Duration.ofSeconds(1);
+    private int window = 1000;
+    private int minimumSamples = 100;
+    private Budget budget = new Budget();
+
+    @Getter
+    @Setter
+    public static class Budget {
+        private int percent = 10;
+        private int burst = 10;
+    }
+}
@@ -0,0 +1,53 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import ru.practicum.shareit.client.balancer.ServerEndpoint;
+import ru.practicum.shareit.client.balancer.ServerLoadBalancer;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class LoadBalancedExchange implements ServerExchange {
+    private static final String TRIED_ENDPOINTS = LoadBalancedExchange.class.getName() + ".tried";
+
+    private final ServerLoadBalancer balancer;
+    private final Map<ServerEndpoint, ServerExchange> exchanges;
+
+    public LoadBalancedExchange(ServerLoadBalancer balancer, Map<ServerEndpoint, ServerExchange> exchanges) {
+        this.balancer = balancer;
+        this.exchanges = exchanges;
+    }
+
+    public static Context spreadAttempts(Context context) {
+        return context.put(TRIED_ENDPOINTS, ConcurrentHashMap.newKeySet());
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> exchange(HttpMethod method, String path, HttpHeaders headers,
+                                                 @Nullable Map<String, Object> parameters, @Nullable Object body) {
+        return Mono.deferContextual(context -> {
+            Set<ServerEndpoint> tried = context.getOrDefault(TRIED_ENDPOINTS, null);
+            ServerEndpoint endpoint = balancer.choose(tried);
+            if (tried != null) tried.add(endpoint);
+            Mono<ResponseEntity<Object>> call = exchanges.get(endpoint)
+                    .exchange(method, path, headers, parameters, body);
+            endpoint.acquire();
+            return call
+                    .doOnSuccess(response -> {
+                        if (response != null && response.getStatusCode().is5xxServerError()) {
+                            balancer.onFailure(endpoint);
+                        } else {
+                            balancer.onSuccess(endpoint);
+                        }
+                    })
+                    .doOnError(error -> balancer.onFailure(endpoint))
+                    .doFinally(signal -> endpoint.release());
+        });
+    }
+}
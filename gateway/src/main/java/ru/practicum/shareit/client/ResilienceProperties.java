@@ -0,0 +1,47 @@
+package ru.practicum.shareit.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties("shareit-server.resilience")
+public class ResilienceProperties {
+    private boolean enabled = true;
+    private Bulkhead bulkhead = new Bulkhead();
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Timeouts timeouts = new Timeouts();
+
+    @Getter
+    @Setter
+    public static class Bulkhead {
+        private int maxConcurrentCalls = 100;
+        private Map<String, Integer> clients = new LinkedHashMap<>();
+
+        public int maxConcurrentCalls(String client) {
+            return clients.getOrDefault(client, maxConcurrentCalls);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+        private int slidingWindow = 50;
+        private int minimumCalls = 20;
+        private int failureRateThreshold = 50;
+        private Duration openDuration = Duration.ofSeconds(10);
+        private int halfOpenCalls = 5;
+    }
+
+    @Getter
+    @Setter
+    public static class Timeouts {
+        private Duration defaultTimeout = Duration.ofSeconds(30);
+        private Map<String, Duration> routes = new LinkedHashMap<>();
+    }
+}
@@ -0,0 +1,106 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.exception.ServerUnavailableException;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+
+public class ResilientExchange implements ServerExchange {
+    private final ServerExchange delegate;
+    private final String apiPrefix;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    @Nullable
+    private final RouteTimeouts timeouts;
+    private final Counter bulkheadRejections;
+    private final Counter circuitRejections;
+    private final Counter timeoutCount;
+
+    public ResilientExchange(ServerExchange delegate, String apiPrefix, String client, int maxConcurrentCalls,
+                             CircuitBreaker circuitBreaker, @Nullable RouteTimeouts timeouts,
+                             MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.apiPrefix = apiPrefix;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.circuitBreaker = circuitBreaker;
+        this.timeouts = timeouts;
+        this.bulkheadRejections = rejections(meterRegistry, client, "bulkhead");
+        this.circuitRejections = rejections(meterRegistry, client, "circuit-open");
+        this.timeoutCount = Counter.builder("shareit.gateway.server.timeouts")
+                .description("Calls to the server that did not answer within the route timeout")
+                .tag("client", client)
+                .register(meterRegistry);
+        Gauge.builder("shareit.gateway.circuit-breaker.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("Circuit breaker state: 0 closed, 1 open, 2 half-open")
+                .tag("client", client)
+                .register(meterRegistry);
+        Gauge.builder("shareit.gateway.bulkhead.in-use", bulkhead,
+                        semaphore -> maxConcurrentCalls - semaphore.availablePermits())
+                .description("Calls to the server currently holding a bulkhead permit")
+                .tag("client", client)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> exchange(HttpMethod method, String path, HttpHeaders headers,
+                                                 @Nullable Map<String, Object> parameters, @Nullable Object body) {
+        return Mono.defer(() -> {
+            long waitNanos = circuitBreaker.tryAcquire(System.nanoTime());
+            if (waitNanos > 0) {
+                circuitRejections.increment();
+                return Mono.error(new ServerUnavailableException("Сервер недоступен", Duration.ofNanos(waitNanos)));
+            }
+            if (!bulkhead.tryAcquire()) {
+                circuitBreaker.release();
+                bulkheadRejections.increment();
+                return Mono.error(new ServerUnavailableException("Сервер перегружен", Duration.ofSeconds(1)));
+            }
+            Mono<ResponseEntity<Object>> call = delegate.exchange(method, path, headers, parameters, body);
+            if (timeouts != null) call = call.timeout(timeouts.forPath(routePath(path)));
+            return call
+                    .doOnSuccess(this::onResponse)
+                    .doOnError(this::onError)
+                    .doOnCancel(circuitBreaker::release)
+                    .doFinally(signal -> bulkhead.release());
+        });
+    }
+
+    private void onResponse(@Nullable ResponseEntity<Object> response) {
+        if (response != null && response.getStatusCode().is5xxServerError()) {
+            circuitBreaker.onFailure(System.nanoTime());
+        } else {
+            circuitBreaker.onSuccess();
+        }
+    }
+
+    private void onError(Throwable error) {
+        if (error instanceof TimeoutException || error.getCause() instanceof SocketTimeoutException) {
+            timeoutCount.increment();
+        }
+        circuitBreaker.onFailure(System.nanoTime());
+    }
+
+    private String routePath(String path) {
+        int query = path.indexOf('?');
+        return apiPrefix + (query >= 0 ? path.substring(0, query) : path);
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String client, String reason) {
+        return Counter.builder("shareit.gateway.server.rejected")
+                .description("Calls to the server rejected by the gateway without being sent")
+                .tag("client", client)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
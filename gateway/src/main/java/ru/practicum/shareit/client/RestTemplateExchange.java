@@ -0,0 +1,48 @@
+package ru.practicum.shareit.client;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class RestTemplateExchange implements ServerExchange {
+    private final RestTemplate rest;
+    private final Class<?> responseType;
+
+    @Override
+    public Mono<ResponseEntity<Object>> exchange(HttpMethod method, String path, HttpHeaders headers,
+                                                 @Nullable Map<String, Object> parameters, @Nullable Object body) {
+        return Mono.create(sink -> {
+            AbortableCall call = AbortableCall.begin();
+            sink.onCancel(call::abort);
+            try {
+                sink.success(send(method, path, headers, parameters, body));
+            } catch (RuntimeException e) {
+                if (!call.isAborted()) sink.error(e);
+            } finally {
+                call.end();
+            }
+        });
+    }
+
+    private ResponseEntity<Object> send(HttpMethod method, String path, HttpHeaders headers,
+                                        @Nullable Map<String, Object> parameters, @Nullable Object body) {
+        HttpEntity<Object> requestEntity = new HttpEntity<>(body, headers);
+        try {
+            ResponseEntity<?> response = parameters != null
+                    ? rest.exchange(path, method, requestEntity, responseType, parameters)
+                    : rest.exchange(path, method, requestEntity, responseType);
+            return new ResponseEntity<>(response.getBody(), response.getHeaders(), response.getStatusCode());
+        } catch (HttpStatusCodeException e) {
+            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+import java.time.Duration;
+import java.util.Map;
+
+public class RouteTimeouts {
+    private final Duration defaultTimeout;
+    private final Map<String, Duration> routes;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    public RouteTimeouts(Duration defaultTimeout, Map<String, Duration> routes) {
+        this.defaultTimeout = defaultTimeout;
+        this.routes = routes;
+    }
+
+    public Duration forPath(String path) {
+        for (Map.Entry<String, Duration> route : routes.entrySet()) {
+            if (pathMatcher.match(route.getKey(), path)) return route.getValue();
+        }
+        return defaultTimeout;
+    }
+}
@@ -0,0 +1,174 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import ru.practicum.shareit.client.balancer.ServerEndpoint;
+import ru.practicum.shareit.client.balancer.ServerLoadBalancer;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+public class ServerExchangeFactory {
+    private final ServerLoadBalancer balancer;
+    private final ClientMode mode;
+    private final Class<?> responseType;
+    private final RestTemplateBuilder restTemplateBuilder;
+    private final CloseableHttpClient httpClient;
+    private final RequestConfig requestConfig;
+    private final WebClient.Builder webClientBuilder;
+    private final ConnectionProvider connectionProvider;
+    private final ReactorClientHttpConnector connector;
+    private final List<String> coalescedRoutes;
+    private final List<String> userIndependentRoutes;
+    private final MeterRegistry meterRegistry;
+    private final ResilienceProperties resilience;
+    private final RouteTimeouts routeTimeouts;
+    private final HedgingProperties hedging;
+    private final HedgeBudget hedgeBudget;
+
+    public ServerExchangeFactory(ServerLoadBalancer balancer,
+                                 @Value("${shareit-server.client.mode:blocking}") ClientMode mode,
+                                 @Value("${shareit-server.client.passthrough:false}") boolean passthrough,
+                                 @Value("${shareit-server.reactive.max-connections:500}") int maxConnections,
+                                 @Value("${shareit-server.reactive.pending-acquire-max-count:1000}")
+                                 int pendingAcquireMaxCount,
+                                 @Value("${shareit-server.reactive.pending-acquire-timeout:5s}")
+                                 Duration pendingAcquireTimeout,
+                                 @Value("${shareit-server.reactive.response-timeout:30s}") Duration responseTimeout,
+                                 @Value("${shareit-server.coalescing.routes:}") List<String> coalescedRoutes,
+                                 @Value("${shareit-server.coalescing.user-independent-routes:}")
+                                 List<String> userIndependentRoutes,
+                                 RestTemplateBuilder restTemplateBuilder,
+                                 WebClient.Builder webClientBuilder,
+                                 ObjectProvider<CloseableHttpClient> serverHttpClient,
+                                 ObjectProvider<RequestConfig> serverRequestConfig,
+                                 MeterRegistry meterRegistry,
+                                 ResilienceProperties resilience,
+                                 HedgingProperties hedging) {
+        this.balancer = balancer;
+        this.mode = mode;
+        this.responseType = passthrough ? byte[].class : Object.class;
+        this.restTemplateBuilder = restTemplateBuilder;
+        this.webClientBuilder = webClientBuilder;
+        this.coalescedRoutes = coalescedRoutes;
+        this.userIndependentRoutes = userIndependentRoutes;
+        this.meterRegistry = meterRegistry;
+        this.resilience = resilience;
+        this.routeTimeouts = new RouteTimeouts(resilience.getTimeouts().getDefaultTimeout(),
+                resilience.getTimeouts().getRoutes());
+        this.hedging = hedging;
+        this.hedgeBudget = new HedgeBudget(hedging.getBudget().getPercent(), hedging.getBudget().getBurst());
+        this.httpClient = mode == ClientMode.BLOCKING ? serverHttpClient.getObject() : null;
+        this.requestConfig = mode == ClientMode.BLOCKING ? serverRequestConfig.getObject() : null;
+        if (mode == ClientMode.REACTIVE) {
+            connectionProvider = ConnectionProvider.builder("shareit-server")
+                    .maxConnections(maxConnections)
+                    .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                    .pendingAcquireTimeout(pendingAcquireTimeout)
+                    .metrics(true)
+                    .build();
+            connector = new ReactorClientHttpConnector(HttpClient.create(connectionProvider)
+                    .responseTimeout(responseTimeout));
+        } else {
+            connectionProvider = null;
+            connector = null;
+        }
+    }
+
+    public ServerExchange create(String apiPrefix) {
+        String client = apiPrefix.substring(1).toLowerCase(Locale.ROOT);
+        ServerExchange exchange = balancedExchange(apiPrefix);
+        if (resilience.isEnabled()) exchange = resilient(exchange, apiPrefix, client);
+        if (hedging.isEnabled()) exchange = hedging(exchange, apiPrefix, client);
+        List<String> routes = coalescedRoutes.stream()
+                .filter(route -> route.startsWith(apiPrefix))
+                .collect(Collectors.toList());
+        if (routes.isEmpty()) return exchange;
+        return new CoalescingExchange(exchange, apiPrefix, routes, userIndependentRoutes, meterRegistry);
+    }
+
+    private ServerExchange balancedExchange(String apiPrefix) {
+        List<ServerEndpoint> endpoints = balancer.getEndpoints();
+        if (endpoints.size() == 1) return createExchange(endpoints.get(0).getUrl(), apiPrefix);
+        Map<ServerEndpoint, ServerExchange> exchanges = new LinkedHashMap<>();
+        for (ServerEndpoint endpoint : endpoints) {
+            exchanges.put(endpoint, createExchange(endpoint.getUrl(), apiPrefix));
+        }
+        return new LoadBalancedExchange(balancer, exchanges);
+    }
+
+    private ServerExchange createExchange(String url, String apiPrefix) {
+        DefaultUriBuilderFactory uriBuilderFactory = new DefaultUriBuilderFactory(url + apiPrefix);
+        if (mode == ClientMode.REACTIVE) {
+            return new WebClientExchange(webClientBuilder.clone()
+                    .uriBuilderFactory(uriBuilderFactory)
+                    .clientConnector(connector)
+                    .build(), responseType);
+        }
+        return new RestTemplateExchange(restTemplateBuilder
+                .uriTemplateHandler(uriBuilderFactory)
+                .requestFactory(this::blockingRequestFactory)
+                .build(), responseType);
+    }
+
+    private HttpComponentsClientHttpRequestFactory blockingRequestFactory() {
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient) {
+            @Override
+            protected void postProcessHttpRequest(HttpUriRequest request) {
+                AbortableCall.attach(request);
+            }
+        };
+        if (resilience.isEnabled()) {
+            requestFactory.setHttpContextFactory((method, uri) -> {
+                HttpClientContext context = HttpClientContext.create();
+                context.setRequestConfig(RequestConfig.copy(requestConfig)
+                        .setSocketTimeout((int) routeTimeouts.forPath(uri.getPath()).toMillis())
+                        .build());
+                return context;
+            });
+        }
+        return requestFactory;
+    }
+
+    private ServerExchange resilient(ServerExchange exchange, String apiPrefix, String client) {
+        ResilienceProperties.CircuitBreaker breaker = resilience.getCircuitBreaker();
+        return new ResilientExchange(exchange, apiPrefix, client,
+                resilience.getBulkhead().maxConcurrentCalls(client),
+                new CircuitBreaker(breaker.getSlidingWindow(), breaker.getMinimumCalls(),
+                        breaker.getFailureRateThreshold(), breaker.getOpenDuration(), breaker.getHalfOpenCalls()),
+                mode == ClientMode.REACTIVE ? routeTimeouts : null, meterRegistry);
+    }
+
+    private ServerExchange hedging(ServerExchange exchange, String apiPrefix, String client) {
+        return new HedgingExchange(exchange, apiPrefix, client, hedging.getRoutes(),
+                () -> new HedgeDelay(hedging.getPercentile(), hedging.getMinDelay(), hedging.getMaxDelay(),
+                        hedging.getWindow(), hedging.getMinimumSamples()),
+                hedgeBudget, mode == ClientMode.BLOCKING ? Schedulers.boundedElastic() : Schedulers.immediate(),
+                meterRegistry);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (connectionProvider != null) connectionProvider.dispose();
+    }
+}
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.client;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class WebClientExchange implements ServerExchange {
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    private final WebClient web;
+    private final Class<?> responseType;
+
+    @Override
+    public Mono<ResponseEntity<Object>> exchange(HttpMethod method, String path, HttpHeaders headers,
+                                                 @Nullable Map<String, Object> parameters, @Nullable Object body) {
+        WebClient.RequestBodySpec request = parameters != null
+                ? web.method(method).uri(path, parameters)
+                : web.method(method).uri(path);
+        request.headers(requestHeaders -> requestHeaders.addAll(headers));
+        WebClient.RequestHeadersSpec<?> spec = body != null ? request.bodyValue(body) : request;
+        return spec.exchangeToMono(this::toGatewayResponse);
+    }
+
+    private Mono<ResponseEntity<Object>> toGatewayResponse(ClientResponse response) {
+        if (response.statusCode().is2xxSuccessful()) {
+            return response.toEntity(responseType)
+                    .map(entity -> new ResponseEntity<Object>(entity.getBody(), entity.getHeaders(), entity.getStatusCode()));
+        }
+        return response.bodyToMono(byte[].class)
+                .defaultIfEmpty(EMPTY_BODY)
+                .map(errorBody -> ResponseEntity.status(response.rawStatusCode()).body(errorBody));
+    }
+}
@@ -0,0 +1,19 @@
+package ru.practicum.shareit.client.balancer;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class LeastOutstandingStrategy implements LoadBalancingStrategy {
+
+    @Override
+    public ServerEndpoint choose(List<ServerEndpoint> candidates) {
+        int size = candidates.size();
+        int start = size == 1 ? 0 : ThreadLocalRandom.current().nextInt(size);
+        ServerEndpoint best = candidates.get(start);
+        for (int i = 1; i < size; i++) {
+            ServerEndpoint candidate = candidates.get((start + i) % size);
+            if (candidate.getOutstanding() < best.getOutstanding()) best = candidate;
+        }
+        return best;
+    }
+}
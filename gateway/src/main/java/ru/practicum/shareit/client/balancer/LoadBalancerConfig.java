@@ -0,0 +1,18 @@
+package ru.practicum.shareit.client.balancer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class LoadBalancerConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public LoadBalancingStrategy loadBalancingStrategy(LoadBalancerProperties properties) {
+        if (properties.getStrategy() == LoadBalancerProperties.Strategy.LEAST_OUTSTANDING) {
+            return new LeastOutstandingStrategy();
+        }
+        return new PowerOfTwoChoicesStrategy();
+    }
+}
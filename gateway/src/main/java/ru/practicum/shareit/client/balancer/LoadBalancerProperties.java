@@ -0,0 +1,41 @@
+package ru.practicum.shareit.client.balancer;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties("shareit-server.load-balancer")
+public class LoadBalancerProperties {
+    private Strategy strategy = Strategy.POWER_OF_TWO_CHOICES;
+    private Ejection ejection = new Ejection();
+    private HealthCheck healthCheck = new HealthCheck();
+
+    public enum Strategy {
+        LEAST_OUTSTANDING,
+        POWER_OF_TWO_CHOICES
+    }
+
+    @Getter
+    @Setter
+    public static class Ejection {
+        private int consecutiveFailures = 5;
+        private Duration baseTime = Duration.ofSeconds(30);
+        private Duration maxTime = Duration.ofMinutes(5);
+        private int maxPercent = 50;
+    }
+
+    @Getter
+    @Setter
+    public static class HealthCheck {
+        private boolean enabled = true;
+        private String path = "/actuator/health";
+        private Duration interval = Duration.ofSeconds(5);
+        private Duration timeout = Duration.ofSeconds(1);
+        private int healthyThreshold = 2;
+        private int unhealthyThreshold = 2;
+    }
+}
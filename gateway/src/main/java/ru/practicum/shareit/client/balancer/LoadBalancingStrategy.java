@@ -0,0 +1,7 @@
+package ru.practicum.shareit.client.balancer;
+
+import java.util.List;
+
+public interface LoadBalancingStrategy {
+    ServerEndpoint choose(List<ServerEndpoint> candidates);
+}
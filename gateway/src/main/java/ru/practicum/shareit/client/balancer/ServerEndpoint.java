@@ -0,0 +1,77 @@
+package ru.practicum.shareit.client.balancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ServerEndpoint {
+    private final String url;
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    private volatile boolean healthy = true;
+    private volatile boolean ejected;
+    private volatile long ejectedUntil;
+    private int consecutiveFailures;
+    private int ejections;
+    private int checkSuccesses;
+    private int checkFailures;
+
+    public ServerEndpoint(String url) {
+        this.url = url;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    public void acquire() {
+        outstanding.incrementAndGet();
+    }
+
+    public void release() {
+        outstanding.decrementAndGet();
+    }
+
+    public boolean isAvailable(long now) {
+        if (!healthy) return false;
+        if (ejected && now - ejectedUntil < 0) return false;
+        if (ejected) readmit();
+        return true;
+    }
+
+    public boolean isEjected() {
+        return ejected;
+    }
+
+    synchronized void onSuccess(long now, long baseEjectionNanos) {
+        consecutiveFailures = 0;
+        if (ejections > 0 && !ejected && now - ejectedUntil > baseEjectionNanos) ejections = 0;
+    }
+
+    synchronized boolean onFailure(int threshold) {
+        return !ejected && ++consecutiveFailures >= threshold;
+    }
+
+    synchronized void eject(long now, long baseEjectionNanos, long maxEjectionNanos) {
+        ejections++;
+        ejectedUntil = now + Math.min(maxEjectionNanos, baseEjectionNanos * ejections);
+        ejected = true;
+    }
+
+    synchronized void onHealthCheck(boolean success, int healthyThreshold, int unhealthyThreshold) {
+        if (success) {
+            checkFailures = 0;
+            if (!healthy && ++checkSuccesses >= healthyThreshold) healthy = true;
+        } else {
+            checkSuccesses = 0;
+            if (healthy && ++checkFailures >= unhealthyThreshold) healthy = false;
+        }
+    }
+
+    private synchronized void readmit() {
+        ejected = false;
+        consecutiveFailures = 0;
+    }
+}
@@ -0,0 +1,136 @@
+package ru.practicum.shareit.client.balancer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Component
+public class ServerLoadBalancer {
+    private final List<ServerEndpoint> endpoints;
+    private final LoadBalancingStrategy strategy;
+    private final LoadBalancerProperties.Ejection ejection;
+    private final LoadBalancerProperties.HealthCheck healthCheck;
+    private final long baseEjectionNanos;
+    private final long maxEjectionNanos;
+    private final int maxEjected;
+    private final Map<ServerEndpoint, Counter> ejections = new HashMap<>();
+    private final ScheduledExecutorService healthChecks;
+    private final HttpClient healthClient;
+
+    public ServerLoadBalancer(@Value("${shareit-server.url}") List<String> urls,
+                              LoadBalancingStrategy strategy,
+                              LoadBalancerProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.endpoints = urls.stream()
+                .map(url -> new ServerEndpoint(url.endsWith("/") ? url.substring(0, url.length() - 1) : url))
+                .collect(Collectors.toUnmodifiableList());
+        this.strategy = strategy;
+        this.ejection = properties.getEjection();
+        this.healthCheck = properties.getHealthCheck();
+        this.baseEjectionNanos = ejection.getBaseTime().toNanos();
+        this.maxEjectionNanos = ejection.getMaxTime().toNanos();
+        this.maxEjected = Math.max(1, endpoints.size() * ejection.getMaxPercent() / 100);
+        for (ServerEndpoint endpoint : endpoints) {
+            register(endpoint, meterRegistry);
+        }
+        if (endpoints.size() > 1 && healthCheck.isEnabled()) {
+            healthClient = HttpClient.newBuilder()
+                    .connectTimeout(healthCheck.getTimeout())
+                    .build();
+            healthChecks = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "shareit-server-health");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = healthCheck.getInterval().toMillis();
+            healthChecks.scheduleWithFixedDelay(this::checkHealth, interval, interval, TimeUnit.MILLISECONDS);
+        } else {
+            healthClient = null;
+            healthChecks = null;
+        }
+    }
+
+    public List<ServerEndpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    public ServerEndpoint choose(@Nullable Collection<ServerEndpoint> tried) {
+        long now = System.nanoTime();
+        List<ServerEndpoint> candidates = new ArrayList<>(endpoints.size());
+        for (ServerEndpoint endpoint : endpoints) {
+            if (endpoint.isAvailable(now) && (tried == null || !tried.contains(endpoint))) candidates.add(endpoint);
+        }
+        if (candidates.isEmpty() && tried != null) {
+            for (ServerEndpoint endpoint : endpoints) {
+                if (endpoint.isAvailable(now)) candidates.add(endpoint);
+            }
+        }
+        return strategy.choose(candidates.isEmpty() ? endpoints : candidates);
+    }
+
+    public void onSuccess(ServerEndpoint endpoint) {
+        endpoint.onSuccess(System.nanoTime(), baseEjectionNanos);
+    }
+
+    public void onFailure(ServerEndpoint endpoint) {
+        if (!endpoint.onFailure(ejection.getConsecutiveFailures())) return;
+        synchronized (this) {
+            long ejected = endpoints.stream().filter(ServerEndpoint::isEjected).count();
+            if (ejected >= maxEjected || endpoint.isEjected()) return;
+            endpoint.eject(System.nanoTime(), baseEjectionNanos, maxEjectionNanos);
+        }
+        ejections.get(endpoint).increment();
+    }
+
+    private void checkHealth() {
+        for (ServerEndpoint endpoint : endpoints) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(endpoint.getUrl() + healthCheck.getPath()))
+                    .timeout(healthCheck.getTimeout())
+                    .GET()
+                    .build();
+            healthClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> endpoint.onHealthCheck(
+                            error == null && response.statusCode() / 100 == 2,
+                            healthCheck.getHealthyThreshold(), healthCheck.getUnhealthyThreshold()));
+        }
+    }
+
+    private void register(ServerEndpoint endpoint, MeterRegistry meterRegistry) {
+        Gauge.builder("shareit.gateway.endpoint.outstanding", endpoint, ServerEndpoint::getOutstanding)
+                .description("Requests to the server endpoint that have not completed yet")
+                .tag("endpoint", endpoint.getUrl())
+                .register(meterRegistry);
+        Gauge.builder("shareit.gateway.endpoint.available", endpoint,
+                        value -> value.isAvailable(System.nanoTime()) ? 1 : 0)
+                .description("Whether the server endpoint is healthy and not ejected")
+                .tag("endpoint", endpoint.getUrl())
+                .register(meterRegistry);
+        ejections.put(endpoint, Counter.builder("shareit.gateway.endpoint.ejections")
+                .description("Times the server endpoint was ejected after consecutive failures")
+                .tag("endpoint", endpoint.getUrl())
+                .register(meterRegistry));
+    }
+
+    @PreDestroy
+    public void close() {
+        if (healthChecks != null) healthChecks.shutdownNow();
+    }
+}
@@ -1,11 +1,19 @@
 package ru.practicum.shareit.exception;
 
 import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import javax.validation.ConstraintViolationException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeoutException;
 
 @RestControllerAdvice()
 public class ErrorHandler {
@@ -16,6 +24,15 @@ public class ErrorHandler {
         return new ErrorResponse("Unknown state: " + e.getValue().toString(), "неправильный статус");
     }
 
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ErrorResponse handleConstraintViolationException(ConstraintViolationException e) {
+        String defaultMessage = e.getConstraintViolations().isEmpty()
+                ? e.getMessage()
+                : e.getConstraintViolations().iterator().next().getMessage();
+        return new ErrorResponse("Validation error", defaultMessage);
+    }
+
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ErrorResponse handleValidationException(MethodArgumentNotValidException e) {
@@ -25,4 +42,34 @@ public class ErrorHandler {
         } else defaultMessage = e.getFieldError().getDefaultMessage();
         return new ErrorResponse("Validation error", defaultMessage);
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(ServerUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServerUnavailableException(ServerUnavailableException e) {
+        long retryAfterSeconds = Math.max(1, (e.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(new ErrorResponse("Service unavailable", e.getMessage()));
+    }
+
+    @ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+    @ExceptionHandler(TimeoutException.class)
+    public ErrorResponse handleTimeoutException(TimeoutException e) {
+        return new ErrorResponse("Gateway timeout", "Сервер не ответил вовремя");
+    }
+
+    @ExceptionHandler(ResourceAccessException.class)
+    public ResponseEntity<ErrorResponse> handleResourceAccessException(ResourceAccessException e) {
+        if (e.getCause() instanceof SocketTimeoutException) {
+            return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+                    .body(new ErrorResponse("Gateway timeout", "Сервер не ответил вовремя"));
+        }
+        return ResponseEntity.status(HttpStatus.BAD_GATEWAY)
+                .body(new ErrorResponse("Bad gateway", "Сервер недоступен"));
+    }
+
+    @ResponseStatus(HttpStatus.BAD_GATEWAY)
+    @ExceptionHandler(WebClientRequestException.class)
+    public ErrorResponse handleWebClientRequestException(WebClientRequestException e) {
+        return new ErrorResponse("Bad gateway", "Сервер недоступен");
+    }
+}
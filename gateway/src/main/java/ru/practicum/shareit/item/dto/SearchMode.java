@@ -0,0 +1,6 @@
+package ru.practicum.shareit.item.dto;
+
+public enum SearchMode {
+    SUBSTRING,
+    RANKED
+}
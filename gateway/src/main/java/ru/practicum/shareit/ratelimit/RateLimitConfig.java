@@ -0,0 +1,34 @@
+package ru.practicum.shareit.ratelimit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(name = "shareit-gateway.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(
+            @Value("${shareit-gateway.rate-limit.reads.capacity:200}") int readCapacity,
+            @Value("${shareit-gateway.rate-limit.reads.per-second:100}") double readsPerSecond,
+            @Value("${shareit-gateway.rate-limit.writes.capacity:50}") int writeCapacity,
+            @Value("${shareit-gateway.rate-limit.writes.per-second:20}") double writesPerSecond,
+            @Value("${shareit-gateway.rate-limit.max-users:100000}") long maxUsers,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) throws JsonProcessingException {
+        Map<RouteClass, UserRateLimiter> limiters = new EnumMap<>(RouteClass.class);
+        limiters.put(RouteClass.READ,
+                new UserRateLimiter("read", readCapacity, readsPerSecond, maxUsers, meterRegistry));
+        limiters.put(RouteClass.WRITE,
+                new UserRateLimiter("write", writeCapacity, writesPerSecond, maxUsers, meterRegistry));
+        return new RateLimitFilter(limiters, objectMapper);
+    }
+}
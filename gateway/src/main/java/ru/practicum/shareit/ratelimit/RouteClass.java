@@ -0,0 +1,17 @@
+package ru.practicum.shareit.ratelimit;
+
+public enum RouteClass {
+    READ,
+    WRITE;
+
+    public static RouteClass of(String method) {
+        switch (method) {
+            case "GET":
+            case "HEAD":
+            case "OPTIONS":
+                return READ;
+            default:
+                return WRITE;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package ru.practicum.shareit.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+final class TokenBucket {
+    private static final AtomicLongFieldUpdater<TokenBucket> FULL_AT =
+            AtomicLongFieldUpdater.newUpdater(TokenBucket.class, "fullAt");
+
+    private volatile long fullAt;
+
+    TokenBucket(long now) {
+        this.fullAt = now;
+    }
+
+    long tryAcquire(long now, long tokenNanos, long capacityNanos) {
+        while (true) {
+            long current = fullAt;
+            long next = Math.max(current, now) + tokenNanos;
+            long waitNanos = next - now - capacityNanos;
+            if (waitNanos > 0) return waitNanos;
+            if (FULL_AT.compareAndSet(this, current, next)) return 0;
+        }
+    }
+}
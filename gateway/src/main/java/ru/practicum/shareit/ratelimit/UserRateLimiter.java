@@ -0,0 +1,48 @@
+package ru.practicum.shareit.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+
+public class UserRateLimiter {
+    private static final Duration MIN_IDLE_EXPIRY = Duration.ofSeconds(1);
+
+    private final long tokenNanos;
+    private final long capacityNanos;
+    private final Cache<Long, TokenBucket> buckets;
+    private final Counter rejected;
+
+    public UserRateLimiter(String route, int capacity, double perSecond, long maxUsers, MeterRegistry meterRegistry) {
+        this.tokenNanos = (long) (Duration.ofSeconds(1).toNanos() / perSecond);
+        this.capacityNanos = tokenNanos * capacity;
+        this.buckets = Caffeine.newBuilder()
+                .executor(Runnable::run)
+                .maximumSize(maxUsers)
+                .expireAfterAccess(max(Duration.ofNanos(capacityNanos), MIN_IDLE_EXPIRY))
+                .build();
+        this.rejected = Counter.builder("shareit.gateway.rate-limit.rejected")
+                .description("Requests rejected because the user exceeded the rate limit")
+                .tag("route", route)
+                .register(meterRegistry);
+        Gauge.builder("shareit.gateway.rate-limit.buckets", buckets, Cache::estimatedSize)
+                .description("Users with a token bucket in the rate limiter table")
+                .tag("route", route)
+                .register(meterRegistry);
+    }
+
+    public long tryAcquire(long userId) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(userId, id -> new TokenBucket(now));
+        long waitNanos = bucket.tryAcquire(now, tokenNanos, capacityNanos);
+        if (waitNanos > 0) rejected.increment();
+        return waitNanos;
+    }
+
+    private static Duration max(Duration first, Duration second) {
+        return first.compareTo(second) >= 0 ? first : second;
+    }
+}
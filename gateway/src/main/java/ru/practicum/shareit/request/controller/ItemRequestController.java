@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.request.client.RequestClient;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
@@ -19,19 +20,19 @@ public class ItemRequestController {
     private final RequestClient itemRequestService;
 
     @PostMapping
-    public ResponseEntity<Object> addItemRequest(@RequestBody @Valid ItemRequestDto itemRequestDto,
+    public Mono<ResponseEntity<Object>> addItemRequest(@RequestBody @Valid ItemRequestDto itemRequestDto,
                                                  @RequestHeader(value = "X-Sharer-User-Id") Long requesterId) {
         return itemRequestService.addItemRequest(requesterId, itemRequestDto);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getItemRequestsByUserId(
+    public Mono<ResponseEntity<Object>> getItemRequestsByUserId(
             @RequestHeader("X-Sharer-User-Id") Long requesterId) {
         return itemRequestService.getItemRequestsByUserId(requesterId);
     }
 
     @GetMapping("/all")
-    public ResponseEntity<Object> getAllRequests(
+    public Mono<ResponseEntity<Object>> getAllRequests(
             @RequestHeader("X-Sharer-User-Id") Long requesterId,
             @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
             @Positive @RequestParam(name = "size", defaultValue = "20") Integer size) {
@@ -39,7 +40,7 @@ public class ItemRequestController {
     }
 
     @GetMapping("{requestId}")
-    public ResponseEntity<Object> getItemRequestById(@RequestHeader("X-Sharer-User-Id") Long userId,
+    public Mono<ResponseEntity<Object>> getItemRequestById(@RequestHeader("X-Sharer-User-Id") Long userId,
                                                      @PathVariable Long requestId) {
         return itemRequestService.getItemRequestById(userId, requestId);
     }
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.user.client.UserClient;
 import ru.practicum.shareit.user.dto.AdvanceInfo;
 import ru.practicum.shareit.user.dto.BasicInfo;
@@ -16,28 +17,28 @@ public class UserController {
     private final UserClient userService;
 
     @PostMapping
-    public ResponseEntity<Object> createUser(@Validated(BasicInfo.class) @RequestBody UserDto user) {
+    public Mono<ResponseEntity<Object>> createUser(@Validated(BasicInfo.class) @RequestBody UserDto user) {
         return userService.createUser(user);
     }
 
     @PatchMapping("/{userId}")
-    public ResponseEntity<Object> updateUser(@Validated(AdvanceInfo.class) @RequestBody UserDto user,
+    public Mono<ResponseEntity<Object>> updateUser(@Validated(AdvanceInfo.class) @RequestBody UserDto user,
                                              @PathVariable long userId) {
         return userService.updateUser(userId, user);
     }
 
     @DeleteMapping("/{userId}")
-    public ResponseEntity<Object> deleteUser(@PathVariable long userId) {
+    public Mono<ResponseEntity<Object>> deleteUser(@PathVariable long userId) {
         return userService.deleteUser(userId);
     }
 
     @GetMapping("/{userId}")
-    public ResponseEntity<Object> getUserById(@PathVariable long userId) {
+    public Mono<ResponseEntity<Object>> getUserById(@PathVariable long userId) {
         return userService.getUserById(userId);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getAllUsers() {
+    public Mono<ResponseEntity<Object>> getAllUsers() {
         return userService.getAllUsers();
     }
 }
\ No newline at end of file
@@ -4,8 +4,12 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingOutputDto;
+import ru.practicum.shareit.booking.dto.BookingPageDto;
 import ru.practicum.shareit.booking.dto.BookingState;
 import ru.practicum.shareit.booking.service.BookingService;
 
@@ -16,6 +20,8 @@ import java.util.List;
 @Validated
 @RequestMapping(path = "/bookings")
 public class BookingController {
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final BookingService bookingService;
 
     @PostMapping
@@ -24,6 +30,19 @@ public class BookingController {
         return ResponseEntity.ok(bookingService.createBooking(bookingDto, userId));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<BookingBatchResultDto>> createBookings(@RequestBody List<BookingDto> bookingDtos,
+                                                                      @RequestHeader("X-Sharer-User-Id") long userId) {
+        return ResponseEntity.ok(bookingService.createBookings(bookingDtos, userId));
+    }
+
+    @PatchMapping("/batch")
+    public ResponseEntity<List<BookingDecisionResultDto>> decideBookings(
+            @RequestHeader("X-Sharer-User-Id") long userId,
+            @RequestBody List<BookingDecisionDto> decisions) {
+        return ResponseEntity.ok(bookingService.decideBookings(userId, decisions));
+    }
+
     @PatchMapping("/{bookingId}")
     public ResponseEntity<BookingOutputDto> approveBooking(@RequestHeader("X-Sharer-User-Id") long userId,
                                                            @PathVariable long bookingId,
@@ -42,7 +61,9 @@ public class BookingController {
             @RequestHeader("X-Sharer-User-Id") long userId,
             @RequestParam(defaultValue = "ALL") BookingState state,
             @RequestParam(name = "from") Integer from,
-            @RequestParam(name = "size") Integer size) {
+            @RequestParam(name = "size") Integer size,
+            @RequestParam(name = "cursor", required = false) String cursor) {
+        if (cursor != null) return withNextCursor(bookingService.getAllUserBookingByCursor(userId, state, cursor, size));
         return ResponseEntity.ok(bookingService.getAllUserBooking(userId, state, from, size));
     }
 
@@ -51,7 +72,15 @@ public class BookingController {
             @RequestHeader("X-Sharer-User-Id") long userId,
             @RequestParam(defaultValue = "ALL") BookingState state,
             @RequestParam(name = "from") Integer from,
-            @RequestParam(name = "size") Integer size) {
+            @RequestParam(name = "size") Integer size,
+            @RequestParam(name = "cursor", required = false) String cursor) {
+        if (cursor != null) return withNextCursor(bookingService.getOwnerBookingByCursor(userId, state, cursor, size));
         return ResponseEntity.ok(bookingService.getOwnerBooking(userId, state, from, size));
     }
+
+    private ResponseEntity<List<BookingOutputDto>> withNextCursor(BookingPageDto page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        return response.body(page.getBookings());
+    }
 }
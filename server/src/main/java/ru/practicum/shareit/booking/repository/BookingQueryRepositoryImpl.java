@@ -0,0 +1,109 @@
+package ru.practicum.shareit.booking.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import ru.practicum.shareit.booking.dto.BookingOutputDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+public class BookingQueryRepositoryImpl implements BookingQueryRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<BookingOutputDto> findBookingOutputs(Specification<Booking> specification, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Booking> root = query.from(Booking.class);
+        Join<Booking, Item> item = root.join("item");
+        Join<Item, User> owner = item.join("owner");
+        Join<Item, ItemRequest> request = item.join("request", JoinType.LEFT);
+        Join<ItemRequest, User> requester = request.join("requester", JoinType.LEFT);
+        Join<Booking, User> booker = root.join("booker");
+
+        List<Selection<?>> columns = new ArrayList<>();
+        columns.add(root.get("id"));
+        columns.add(root.get("start"));
+        columns.add(root.get("end"));
+        columns.add(root.get("status"));
+        columns.add(item.get("id"));
+        columns.add(item.get("name"));
+        columns.add(item.get("description"));
+        columns.add(item.get("available"));
+        addUser(columns, owner);
+        columns.add(request.get("id"));
+        columns.add(request.get("description"));
+        columns.add(request.get("created"));
+        addUser(columns, requester);
+        addUser(columns, booker);
+        query.multiselect(columns);
+
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) query.where(predicate);
+        query.orderBy(toOrders(pageable.getSort(), root, cb));
+        return entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultStream()
+                .map(BookingQueryRepositoryImpl::toBookingOutputDto)
+                .collect(Collectors.toList());
+    }
+
+    private static void addUser(List<Selection<?>> columns, From<?, User> user) {
+        columns.add(user.get("id"));
+        columns.add(user.get("name"));
+        columns.add(user.get("email"));
+    }
+
+    private static BookingOutputDto toBookingOutputDto(Tuple row) {
+        Long requestId = row.get(11, Long.class);
+        ItemRequest request = requestId == null ? null : ItemRequest.builder()
+                .id(requestId)
+                .description(row.get(12, String.class))
+                .created(row.get(13, LocalDateTime.class))
+                .requester(toUser(row, 14))
+                .build();
+        Item item = Item.builder()
+                .id(row.get(4, Long.class))
+                .name(row.get(5, String.class))
+                .description(row.get(6, String.class))
+                .available(row.get(7, Boolean.class))
+                .owner(toUser(row, 8))
+                .request(request)
+                .build();
+        return BookingOutputDto.builder()
+                .id(row.get(0, Long.class))
+                .start(row.get(1, LocalDateTime.class))
+                .end(row.get(2, LocalDateTime.class))
+                .status(row.get(3, BookingStatus.class))
+                .item(item)
+                .booker(toUser(row, 17))
+                .build();
+    }
+
+    private static User toUser(Tuple row, int offset) {
+        return new User(row.get(offset, Long.class), row.get(offset + 1, String.class),
+                row.get(offset + 2, String.class));
+    }
+}
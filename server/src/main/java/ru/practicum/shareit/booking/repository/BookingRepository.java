@@ -1,58 +1,63 @@
 package ru.practicum.shareit.booking.repository;
 
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.booking.dto.BookingDecisionView;
+import ru.practicum.shareit.booking.dto.BookingForItemView;
+import ru.practicum.shareit.booking.dto.BookingIntervalView;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-
-public interface BookingRepository extends JpaRepository<Booking, Long> {
-
-    List<Booking> findAllByBooker(User booker, Pageable pageable);
-
-    @Query("select b from Booking b " +
-            "where b.booker = ?1 and b.start < ?2 and b.end > ?2")
-    List<Booking> findAllBookingsForBookerWithStartAndEnd(
-            User user, LocalDateTime localDateTime, Pageable pageable);
-
-    @Query("select b from Booking b " +
-            "where b.item.owner = ?1 and b.start < ?2 and b.end > ?2")
-    List<Booking> findAllBookingsItemByForOwnerWithStartAndEnd(
-            User user, LocalDateTime localDateTime, Pageable pageable);
-
-    List<Booking> findAllByBookerAndEndIsBefore(
-            User user, LocalDateTime localDateTime, Pageable pageable);
-
-    List<Booking> findAllByBookerAndStartIsAfter(
-            User user, LocalDateTime localDateTime, Pageable pageable);
-
-    List<Booking> findAllByBookerAndStatusEquals(
-            User booker, BookingStatus bookingStatus, Pageable pageable);
-
-    List<Booking> findAllByItem_Owner(User userId, Pageable pageable);
-
-    @Query("select b from Booking b where b.item.owner = ?1 and b.end < ?2")
-    List<Booking> findAllByItem_OwnerAndEndIsBefore(
-            User user, LocalDateTime localDateTime, Pageable pageable);
-
-    List<Booking> findAllByItem_OwnerAndStartIsAfter(
-            User user, LocalDateTime localDateTime, Pageable pageable);
-
-
-    List<Booking> findAllByItem_OwnerAndStatusEquals(
-            User user, BookingStatus bookingStatus, Pageable pageable);
-
-    @Query("select b from Booking b where b.item = ?1 and b.start > ?2 and b.status = 'APPROVED' order by b.start ASC")
-    List<Booking> findNextBooking(Item item, LocalDateTime dateTime, Pageable limit);
-
-    @Query("select b from Booking b where b.item = ?1 and b.start < ?2 and b.status = 'APPROVED' order by b.end Desc")
-    List<Booking> findLastBooking(Item item, LocalDateTime dateTime, Pageable limit);
+import java.util.Optional;
+
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingQueryRepository {
+
+    @EntityGraph("Booking.details")
+    Optional<Booking> findDetailedById(long id);
+
+    @Query(value = "(select distinct on (b.item_id) b.id as id, b.item_id as \"itemId\", " +
+            "b.start_date as start, b.end_date as \"end\", b.booker_id as \"bookerId\", b.status as status " +
+            "from booking b " +
+            "where b.item_id in ?1 and b.start_date < ?2 and b.status = 'APPROVED' " +
+            "order by b.item_id, b.end_date desc) " +
+            "union all " +
+            "(select distinct on (b.item_id) b.id as id, b.item_id as \"itemId\", " +
+            "b.start_date as start, b.end_date as \"end\", b.booker_id as \"bookerId\", b.status as status " +
+            "from booking b " +
+            "where b.item_id in ?1 and b.start_date > ?2 and b.status = 'APPROVED' " +
+            "order by b.item_id, b.start_date asc)", nativeQuery = true)
+    List<BookingForItemView> findLastAndNextBookings(Collection<Long> itemIds, LocalDateTime dateTime);
 
     @Query("SELECT COUNT(b) > 0 FROM Booking b WHERE b.booker = ?1 AND b.item = ?2 AND b.end < ?3")
     Boolean existBooking(User user, Item item, LocalDateTime dateTime);
-}
\ No newline at end of file
+
+    @Query("select b.id as id, b.start as start, b.end as end from Booking b " +
+            "where b.item.id = ?1 and b.status in ?2")
+    List<BookingIntervalView> findIntervalsByItemId(long itemId, Collection<BookingStatus> statuses);
+
+    @Query(value = "select b.id as id, b.item_id as \"itemId\", i.owner_id as \"ownerId\", b.status as status, " +
+            "b.start_date as start, b.end_date as \"end\" from booking b join items i on i.id = b.item_id " +
+            "where b.id in ?1 order by b.id for update of b", nativeQuery = true)
+    List<BookingDecisionView> lockDecisionViewsByIdIn(Collection<Long> ids);
+
+    @Query(value = "select c.id from booking c where c.id in ?1 and exists (" +
+            "select 1 from booking b where b.item_id = c.item_id and b.status = 'APPROVED' and b.id <> c.id " +
+            "and tsrange(b.start_date, b.end_date) && tsrange(c.start_date, c.end_date))", nativeQuery = true)
+    List<Long> findIdsOverlappingApproved(Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Booking b set b.status = ?2 where b.id in ?1")
+    int updateStatuses(Collection<Long> ids, BookingStatus status);
+
+    @Query(value = "select distinct b.item_id from booking b " +
+            "where b.item_id in ?3 and b.status = 'APPROVED' " +
+            "and tsrange(b.start_date, b.end_date) && tsrange(?1, ?2)", nativeQuery = true)
+    List<Long> findItemIdsBookedBetween(LocalDateTime start, LocalDateTime end, Collection<Long> itemIds);
+}
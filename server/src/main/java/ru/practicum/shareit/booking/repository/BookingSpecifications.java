@@ -0,0 +1,65 @@
+package ru.practicum.shareit.booking.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.dto.BookingState;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.model.Item;
+
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+
+public final class BookingSpecifications {
+    private static final Map<BookingState, Function<LocalDateTime, Specification<Booking>>> STATE_FILTERS =
+            new EnumMap<>(BookingState.class);
+
+    static {
+        STATE_FILTERS.put(BookingState.ALL, now -> (root, query, cb) -> null);
+        STATE_FILTERS.put(BookingState.CURRENT, now -> (root, query, cb) -> cb.and(
+                cb.lessThan(root.get("start"), now),
+                cb.greaterThan(root.get("end"), now)));
+        STATE_FILTERS.put(BookingState.PAST, now -> (root, query, cb) -> cb.lessThan(root.get("end"), now));
+        STATE_FILTERS.put(BookingState.FUTURE, now -> (root, query, cb) -> cb.greaterThan(root.get("start"), now));
+        STATE_FILTERS.put(BookingState.WAITING, now -> hasStatus(BookingStatus.WAITING));
+        STATE_FILTERS.put(BookingState.REJECTED, now -> hasStatus(BookingStatus.REJECTED));
+    }
+
+    private BookingSpecifications() {
+    }
+
+    public static Specification<Booking> bookedBy(long bookerId) {
+        return (root, query, cb) -> cb.equal(root.get("booker").get("id"), bookerId);
+    }
+
+    public static Specification<Booking> ownedBy(long ownerId) {
+        return (root, query, cb) -> cb.equal(item(root).get("owner").get("id"), ownerId);
+    }
+
+    public static Specification<Booking> inState(BookingState state, LocalDateTime now) {
+        return STATE_FILTERS.get(state).apply(now);
+    }
+
+    public static Specification<Booking> after(BookingCursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("start"), cursor.getStart()),
+                cb.and(cb.equal(root.get("start"), cursor.getStart()), cb.lessThan(root.get("id"), cursor.getId())));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Path<Item> item(Root<Booking> root) {
+        return root.getJoins().stream()
+                .filter(join -> "item".equals(join.getAttribute().getName()))
+                .map(join -> (Path<Item>) join)
+                .findFirst()
+                .orElseGet(() -> root.get("item"));
+    }
+
+    private static Specification<Booking> hasStatus(BookingStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+}
@@ -1,7 +1,11 @@
 package ru.practicum.shareit.booking.service;
 
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingOutputDto;
+import ru.practicum.shareit.booking.dto.BookingPageDto;
 import ru.practicum.shareit.booking.dto.BookingState;
 
 import java.util.List;
@@ -10,11 +14,19 @@ public interface BookingService {
 
     BookingOutputDto createBooking(BookingDto bookingDto, long userId);
 
+    List<BookingBatchResultDto> createBookings(List<BookingDto> bookingDtos, long userId);
+
     BookingOutputDto approveBooking(long userId, long bookingId, boolean isApprove);
 
+    List<BookingDecisionResultDto> decideBookings(long userId, List<BookingDecisionDto> decisions);
+
     BookingOutputDto getBookingById(long userId, long bookingId);
 
     List<BookingOutputDto> getAllUserBooking(long userId, BookingState state, int from, int size);
 
+    BookingPageDto getAllUserBookingByCursor(long userId, BookingState state, String cursor, int size);
+
     List<BookingOutputDto> getOwnerBooking(long userId, BookingState state, int from, int size);
+
+    BookingPageDto getOwnerBookingByCursor(long userId, BookingState state, String cursor, int size);
 }
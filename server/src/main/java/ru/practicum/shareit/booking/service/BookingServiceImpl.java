@@ -1,61 +1,127 @@
 package ru.practicum.shareit.booking.service;
 
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionResultDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionView;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingOutputDto;
+import ru.practicum.shareit.booking.dto.BookingPageDto;
 import ru.practicum.shareit.booking.dto.BookingState;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.exception.ErrorResponse;
 import ru.practicum.shareit.exception.IdNotFoundException;
 import ru.practicum.shareit.exception.UnavailableException;
+import ru.practicum.shareit.item.availability.ItemAvailabilityIndex;
+import ru.practicum.shareit.item.cache.ItemDetailsCache;
+import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.mapper.BookingMapper;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static ru.practicum.shareit.booking.repository.BookingSpecifications.after;
+import static ru.practicum.shareit.booking.repository.BookingSpecifications.bookedBy;
+import static ru.practicum.shareit.booking.repository.BookingSpecifications.inState;
+import static ru.practicum.shareit.booking.repository.BookingSpecifications.ownedBy;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
-    private final ModelMapper mapper;
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "start", "id");
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
+    private final ItemDetailsCache itemDetailsCache;
+    private final ItemAvailabilityIndex availabilityIndex;
 
     @Override
     public BookingOutputDto createBooking(BookingDto bookingDto, long userId) {
-        Booking booking = mapper.map(bookingDto, Booking.class);
+        Booking booking = BookingMapper.toBooking(bookingDto);
 
-        booking.setItem(itemRepository.findById(bookingDto.getItemId())
+        booking.setItem(itemRepository.findDetailedById(bookingDto.getItemId())
                 .orElseThrow(() -> new IdNotFoundException("Предмет не найден")));
-
-        if (booking.getItem().getOwner().getId() == userId)
-            throw new IdNotFoundException("Нельзя бронировать свой предмет");
-
-        if (!booking.getItem().getAvailable())
-            throw new UnavailableException("Предмет пока недоступен для бронирования");
+        checkCanBook(booking.getItem(), userId);
 
         booking.setBooker(userRepository.findById(userId)
                 .orElseThrow(() -> new IdNotFoundException("Пользователь не найден")));
 
         booking.setStatus(BookingStatus.WAITING);
-        return mapper.map(bookingRepository.save(booking), BookingOutputDto.class);
+        Booking savedBooking = bookingRepository.save(booking);
+        onBookingCreated(savedBooking);
+        return BookingMapper.toBookingOutputDto(savedBooking);
+    }
+
+    @Override
+    public List<BookingBatchResultDto> createBookings(List<BookingDto> bookingDtos, long userId) {
+        User booker = userRepository.findById(userId)
+                .orElseThrow(() -> new IdNotFoundException("Пользователь не найден"));
+        Set<Long> itemIds = bookingDtos.stream().map(BookingDto::getItemId).collect(Collectors.toSet());
+        Map<Long, Item> items = itemRepository.findAllWithOwnerByIdIn(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        List<BookingBatchResultDto> results = new ArrayList<>(bookingDtos.size());
+        List<Booking> bookings = new ArrayList<>(bookingDtos.size());
+        for (int i = 0; i < bookingDtos.size(); i++) {
+            BookingDto bookingDto = bookingDtos.get(i);
+            try {
+                Item item = items.get(bookingDto.getItemId());
+                if (item == null) throw new IdNotFoundException("Предмет не найден");
+                checkCanBook(item, userId);
+                Booking booking = BookingMapper.toBooking(bookingDto);
+                booking.setItem(item);
+                booking.setBooker(booker);
+                booking.setStatus(BookingStatus.WAITING);
+                bookings.add(booking);
+                results.add(BookingBatchResultDto.builder().index(i).status(HttpStatus.OK.value()).build());
+            } catch (IdNotFoundException e) {
+                results.add(failed(i, HttpStatus.NOT_FOUND, new ErrorResponse("IdNotFound error", e.getMessage())));
+            } catch (UnavailableException e) {
+                results.add(failed(i, HttpStatus.BAD_REQUEST, new ErrorResponse("Unavailable error", e.getMessage())));
+            }
+        }
+
+        Iterator<Booking> savedBookings = bookingRepository.saveAll(bookings).iterator();
+        for (BookingBatchResultDto result : results) {
+            if (result.getStatus() != HttpStatus.OK.value()) continue;
+            Booking savedBooking = savedBookings.next();
+            onBookingCreated(savedBooking);
+            result.setBooking(BookingMapper.toBookingOutputDto(savedBooking));
+        }
+        return results;
     }
 
     @Override
     public BookingOutputDto approveBooking(long userId, long bookingId, boolean isApprove) {
-        Booking booking = bookingRepository.findById(bookingId)
+        Booking booking = bookingRepository.findDetailedById(bookingId)
                 .orElseThrow(() -> new IdNotFoundException("Бронь не найдена"));
         User user = userRepository.findById(userId).orElseThrow(() -> new IdNotFoundException("Пользователь не найден"));
         if (booking.getStatus().equals(BookingStatus.APPROVED))
@@ -65,103 +131,205 @@ public class BookingServiceImpl implements BookingService {
             else booking.setStatus(BookingStatus.REJECTED);
         } else throw new IdNotFoundException("Нельзя подтвердить бронь, не являясь владельцем предмета");
 
-        return mapper.map(bookingRepository.save(booking), BookingOutputDto.class);
+        Booking savedBooking = saveAndCheckOverlap(booking);
+        itemDetailsCache.evict(savedBooking.getItem().getId());
+        if (savedBooking.getStatus() == BookingStatus.REJECTED)
+            availabilityIndex.remove(savedBooking.getItem().getId(), savedBooking.getId());
+        else availabilityIndex.add(savedBooking.getItem().getId(), savedBooking.getId(),
+                savedBooking.getStart(), savedBooking.getEnd());
+        return BookingMapper.toBookingOutputDto(savedBooking);
+    }
+
+    @Override
+    public List<BookingDecisionResultDto> decideBookings(long userId, List<BookingDecisionDto> decisions) {
+        if (userRepository.findById(userId).isEmpty()) throw new IdNotFoundException("Пользователь не найден");
+        Set<Long> bookingIds = decisions.stream().map(BookingDecisionDto::getBookingId).collect(Collectors.toSet());
+        Map<Long, BookingDecisionView> bookings = bookingRepository.lockDecisionViewsByIdIn(bookingIds).stream()
+                .collect(Collectors.toMap(BookingDecisionView::getId, Function.identity()));
+
+        List<BookingDecisionResultDto> results = new ArrayList<>(decisions.size());
+        Map<Long, BookingDecisionResultDto> accepted = new HashMap<>();
+        List<BookingDecisionView> approvals = new ArrayList<>();
+        for (BookingDecisionDto decision : decisions) {
+            BookingDecisionView booking = bookings.get(decision.getBookingId());
+            BookingDecisionResultDto result;
+            if (booking == null) {
+                result = failedDecision(decision.getBookingId(), HttpStatus.NOT_FOUND, "Бронь не найдена");
+            } else if (accepted.containsKey(booking.getId())) {
+                result = failedDecision(booking.getId(), HttpStatus.BAD_REQUEST, "Повторное решение по брони");
+            } else if (booking.getStatus() == BookingStatus.APPROVED) {
+                result = failedDecision(booking.getId(), HttpStatus.BAD_REQUEST, "бронь уже подтверждена");
+            } else if (booking.getOwnerId() != userId) {
+                result = failedDecision(booking.getId(), HttpStatus.NOT_FOUND,
+                        "Нельзя подтвердить бронь, не являясь владельцем предмета");
+            } else {
+                result = BookingDecisionResultDto.builder()
+                        .bookingId(booking.getId())
+                        .status(HttpStatus.OK.value())
+                        .bookingStatus(decision.isApproved() ? BookingStatus.APPROVED : BookingStatus.REJECTED)
+                        .build();
+                accepted.put(booking.getId(), result);
+                if (decision.isApproved()) approvals.add(booking);
+            }
+            results.add(result);
+        }
+
+        for (Long conflictId : findApprovalConflicts(approvals)) {
+            markFailed(accepted.remove(conflictId), HttpStatus.BAD_REQUEST, "Предмет уже забронирован на эти даты");
+        }
+        if (accepted.isEmpty()) return results;
+
+        Map<BookingStatus, List<Long>> decidedIds = accepted.values().stream()
+                .collect(Collectors.groupingBy(BookingDecisionResultDto::getBookingStatus,
+                        Collectors.mapping(BookingDecisionResultDto::getBookingId, Collectors.toList())));
+        decidedIds.forEach(this::updateStatuses);
+        accepted.values().forEach(result -> {
+            BookingDecisionView booking = bookings.get(result.getBookingId());
+            itemDetailsCache.evict(booking.getItemId());
+            if (result.getBookingStatus() == BookingStatus.REJECTED)
+                availabilityIndex.remove(booking.getItemId(), booking.getId());
+            else availabilityIndex.add(booking.getItemId(), booking.getId(), booking.getStart(), booking.getEnd());
+        });
+        return results;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public BookingOutputDto getBookingById(long userId, long bookingId) {
-        Booking booking = bookingRepository.findById(bookingId)
+        Booking booking = bookingRepository.findDetailedById(bookingId)
                 .orElseThrow(() -> new IdNotFoundException("Бронь не нвйдена"));
 
         if (booking.getItem().getOwner().getId() != userId && booking.getBooker().getId() != userId)
             throw new IdNotFoundException("Бронь не найдена");
 
-        return mapper.map(booking, BookingOutputDto.class);
+        return BookingMapper.toBookingOutputDto(booking);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BookingOutputDto> getAllUserBooking(long userId, BookingState state, int from, int size) {
-        final LocalDateTime nowDateTime = LocalDateTime.now();
-        Pageable pageable = PageRequest.of(from / size, size, Sort.by(Sort.Direction.DESC, "start"));
-        User booker = userRepository.findById(userId)
-                .orElseThrow(() -> new IdNotFoundException("Пользователь не нейден"));
-        List<Booking> result = new ArrayList<>();
+        Pageable pageable = PageRequest.of(from / size, size, NEWEST_FIRST);
+        if (userRepository.findById(userId).isEmpty()) throw new IdNotFoundException("Пользователь не нейден");
+        return findBookings(bookedBy(userId), state, LocalDateTime.now(), null, pageable);
+    }
 
-        switch (state) {
-            case ALL: {
-                result = bookingRepository.findAllByBooker(booker, pageable);
-                break;
-            }
-            case CURRENT: {
-                result = bookingRepository.findAllBookingsForBookerWithStartAndEnd(
-                        booker, nowDateTime, pageable);
-                break;
-            }
-            case PAST: {
-                result = bookingRepository.findAllByBookerAndEndIsBefore(
-                        booker, nowDateTime, pageable);
-                break;
-            }
-            case FUTURE: {
-                result = bookingRepository.findAllByBookerAndStartIsAfter(
-                        booker, nowDateTime, pageable);
-                break;
-            }
-            case WAITING: {
-                result = bookingRepository.findAllByBookerAndStatusEquals(
-                        booker, BookingStatus.WAITING, pageable);
-                break;
-            }
-            case REJECTED: {
-                result = bookingRepository.findAllByBookerAndStatusEquals(
-                        booker, BookingStatus.REJECTED, pageable);
-            }
-        }
-        return result.stream()
-                .map(booking -> mapper.map(booking, BookingOutputDto.class))
-                .collect(Collectors.toList());
+    @Override
+    @Transactional(readOnly = true)
+    public BookingPageDto getAllUserBookingByCursor(long userId, BookingState state, String cursor, int size) {
+        BookingCursor after = BookingCursor.decode(cursor);
+        Pageable pageable = PageRequest.of(0, size, NEWEST_FIRST);
+        if (userRepository.findById(userId).isEmpty()) throw new IdNotFoundException("Пользователь не нейден");
+        return toPage(findBookings(bookedBy(userId), state, LocalDateTime.now(), after, pageable), size);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BookingOutputDto> getOwnerBooking(long userId, BookingState state, int from, int size) {
-        final LocalDateTime nowDateTime = LocalDateTime.now();
-        Pageable pageable = PageRequest.of(from / size, size, Sort.by(Sort.Direction.DESC, "start"));
-        User booker = userRepository.findById(userId)
-                .orElseThrow(() -> new IdNotFoundException("Пользователь не найден"));
-        List<Booking> result = new ArrayList<>();
+        Pageable pageable = PageRequest.of(from / size, size, NEWEST_FIRST);
+        if (userRepository.findById(userId).isEmpty()) throw new IdNotFoundException("Пользователь не найден");
+        return findBookings(ownedBy(userId), state, LocalDateTime.now(), null, pageable);
+    }
 
-        switch (state) {
-            case ALL: {
-                result = bookingRepository.findAllByItem_Owner(booker, pageable);
-                break;
-            }
-            case CURRENT: {
-                result = bookingRepository.findAllBookingsItemByForOwnerWithStartAndEnd(booker,
-                        nowDateTime, pageable);
-                break;
-            }
-            case PAST: {
-                result = bookingRepository.findAllByItem_OwnerAndEndIsBefore(booker,
-                        nowDateTime, pageable);
-                break;
-            }
-            case FUTURE: {
-                result = bookingRepository.findAllByItem_OwnerAndStartIsAfter(booker,
-                        nowDateTime, pageable);
-                break;
-            }
-            case WAITING: {
-                result = bookingRepository.findAllByItem_OwnerAndStatusEquals(
-                        booker, BookingStatus.WAITING, pageable);
-                break;
-            }
-            case REJECTED: {
-                result = bookingRepository.findAllByItem_OwnerAndStatusEquals(
-                        booker, BookingStatus.REJECTED, pageable);
+    @Override
+    @Transactional(readOnly = true)
+    public BookingPageDto getOwnerBookingByCursor(long userId, BookingState state, String cursor, int size) {
+        BookingCursor after = BookingCursor.decode(cursor);
+        Pageable pageable = PageRequest.of(0, size, NEWEST_FIRST);
+        if (userRepository.findById(userId).isEmpty()) throw new IdNotFoundException("Пользователь не найден");
+        return toPage(findBookings(ownedBy(userId), state, LocalDateTime.now(), after, pageable), size);
+    }
+
+    private List<BookingOutputDto> findBookings(Specification<Booking> participant, BookingState state,
+                                                LocalDateTime nowDateTime, BookingCursor after, Pageable pageable) {
+        Specification<Booking> specification = participant.and(inState(state, nowDateTime));
+        if (after != null) specification = specification.and(after(after));
+        return bookingRepository.findBookingOutputs(specification, pageable);
+    }
+
+    private BookingPageDto toPage(List<BookingOutputDto> bookings, int size) {
+        String nextCursor = bookings.size() < size
+                ? null
+                : BookingCursor.of(bookings.get(bookings.size() - 1)).encode();
+        return new BookingPageDto(bookings, nextCursor);
+    }
+
+    private static void checkCanBook(Item item, long userId) {
+        if (item.getOwner().getId() == userId)
+            throw new IdNotFoundException("Нельзя бронировать свой предмет");
+        if (!item.getAvailable())
+            throw new UnavailableException("Предмет пока недоступен для бронирования");
+    }
+
+    private void onBookingCreated(Booking booking) {
+        itemDetailsCache.evict(booking.getItem().getId());
+        availabilityIndex.add(booking.getItem().getId(), booking.getId(), booking.getStart(), booking.getEnd());
+    }
+
+    private static BookingBatchResultDto failed(int index, HttpStatus status, ErrorResponse error) {
+        return BookingBatchResultDto.builder().index(index).status(status.value()).error(error).build();
+    }
+
+    private Set<Long> findApprovalConflicts(List<BookingDecisionView> approvals) {
+        Set<Long> conflicts = new HashSet<>();
+        if (approvals.isEmpty()) return conflicts;
+        conflicts.addAll(bookingRepository.findIdsOverlappingApproved(
+                approvals.stream().map(BookingDecisionView::getId).collect(Collectors.toList())));
+
+        Map<Long, List<BookingDecisionView>> byItem = approvals.stream()
+                .filter(booking -> !conflicts.contains(booking.getId()))
+                .sorted(Comparator.comparing(BookingDecisionView::getStart))
+                .collect(Collectors.groupingBy(BookingDecisionView::getItemId));
+        for (List<BookingDecisionView> itemApprovals : byItem.values()) {
+            LocalDateTime approvedUntil = null;
+            for (BookingDecisionView booking : itemApprovals) {
+                if (approvedUntil != null && booking.getStart().isBefore(approvedUntil)) {
+                    conflicts.add(booking.getId());
+                } else {
+                    approvedUntil = booking.getEnd();
+                }
             }
         }
-        return result.stream()
-                .map(booking -> mapper.map(booking, BookingOutputDto.class))
-                .collect(Collectors.toList());
+        return conflicts;
+    }
+
+    private void updateStatuses(BookingStatus status, List<Long> ids) {
+        try {
+            bookingRepository.updateStatuses(ids, status);
+        } catch (DataIntegrityViolationException e) {
+            if (isExclusionViolation(e))
+                throw new UnavailableException("Предмет уже забронирован на эти даты");
+            throw e;
+        }
+    }
+
+    private static BookingDecisionResultDto failedDecision(long bookingId, HttpStatus status, String message) {
+        BookingDecisionResultDto result = BookingDecisionResultDto.builder().bookingId(bookingId).build();
+        markFailed(result, status, message);
+        return result;
+    }
+
+    private static void markFailed(BookingDecisionResultDto result, HttpStatus status, String message) {
+        String error = status == HttpStatus.NOT_FOUND ? "IdNotFound error" : "Unavailable error";
+        result.setStatus(status.value());
+        result.setBookingStatus(null);
+        result.setError(new ErrorResponse(error, message));
+    }
+
+    private Booking saveAndCheckOverlap(Booking booking) {
+        try {
+            return bookingRepository.saveAndFlush(booking);
+        } catch (DataIntegrityViolationException e) {
+            if (isExclusionViolation(e))
+                throw new UnavailableException("Предмет уже забронирован на эти даты");
+            throw e;
+        }
+    }
+
+    private static boolean isExclusionViolation(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException && EXCLUSION_VIOLATION.equals(((SQLException) cause).getSQLState()))
+                return true;
+        }
+        return false;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,55 @@
+package ru.practicum.shareit.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+@Configuration
+public class SecondLevelCacheConfig {
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${shareit.l2-cache.users.max-size:10000}") long usersMaxSize,
+            @Value("${shareit.l2-cache.users.ttl:10m}") Duration usersTtl,
+            @Value("${shareit.l2-cache.items.max-size:10000}") long itemsMaxSize,
+            @Value("${shareit.l2-cache.items.ttl:10m}") Duration itemsTtl,
+            @Value("${shareit.l2-cache.requests.max-size:10000}") long requestsMaxSize,
+            @Value("${shareit.l2-cache.requests.ttl:10m}") Duration requestsTtl,
+            @Value("${shareit.l2-cache.queries.max-size:1000}") long queriesMaxSize,
+            @Value("${shareit.l2-cache.queries.ttl:1m}") Duration queriesTtl) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+        createRegion(cacheManager, "users", OptionalLong.of(usersMaxSize), usersTtl);
+        createRegion(cacheManager, "items", OptionalLong.of(itemsMaxSize), itemsTtl);
+        createRegion(cacheManager, "requests", OptionalLong.of(requestsMaxSize), requestsTtl);
+        createRegion(cacheManager, QUERY_RESULTS_REGION, OptionalLong.of(queriesMaxSize), queriesTtl);
+        createRegion(cacheManager, UPDATE_TIMESTAMPS_REGION, OptionalLong.empty(), null);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static void createRegion(CacheManager cacheManager, String region, OptionalLong maxSize, Duration ttl) {
+        if (cacheManager.getCache(region) != null) cacheManager.destroyCache(region);
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(maxSize);
+        if (ttl != null) configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(region, configuration);
+    }
+}
@@ -0,0 +1,178 @@
+package ru.practicum.shareit.item.availability;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.dto.BookingIntervalView;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.dto.AvailabilityWindowDto;
+import ru.practicum.shareit.util.AfterCommit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@Component
+public class ItemAvailabilityIndex {
+    private static final Set<BookingStatus> BLOCKING_STATUSES = EnumSet.of(BookingStatus.APPROVED, BookingStatus.WAITING);
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final BookingRepository bookingRepository;
+    private final Cache<Long, Intervals> intervals;
+
+    public ItemAvailabilityIndex(BookingRepository bookingRepository,
+                                 @Value("${shareit.availability.max-items:10000}") long maxItems,
+                                 @Value("${shareit.availability.ttl:5m}") Duration ttl) {
+        this.bookingRepository = bookingRepository;
+        this.intervals = Caffeine.newBuilder()
+                .maximumSize(maxItems)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public List<AvailabilityWindowDto> getFreeWindows(long itemId, LocalDateTime from, LocalDateTime to) {
+        return intervals.get(itemId, this::load).freeWindows(toNanos(from), toNanos(to));
+    }
+
+    public void add(long itemId, long bookingId, LocalDateTime start, LocalDateTime end) {
+        long startNanos = toNanos(start);
+        long endNanos = toNanos(end);
+        AfterCommit.run(() -> intervals.asMap()
+                .computeIfPresent(itemId, (id, current) -> current.with(bookingId, startNanos, endNanos)));
+    }
+
+    public void remove(long itemId, long bookingId) {
+        AfterCommit.run(() -> intervals.asMap()
+                .computeIfPresent(itemId, (id, current) -> current.without(bookingId)));
+    }
+
+    public void evictAll() {
+        AfterCommit.run(intervals::invalidateAll);
+    }
+
+    private Intervals load(long itemId) {
+        List<BookingIntervalView> bookings = bookingRepository.findIntervalsByItemId(itemId, BLOCKING_STATUSES);
+        long[] ids = new long[bookings.size()];
+        long[] starts = new long[bookings.size()];
+        long[] ends = new long[bookings.size()];
+        for (int i = 0; i < bookings.size(); i++) {
+            BookingIntervalView booking = bookings.get(i);
+            ids[i] = booking.getId();
+            starts[i] = toNanos(booking.getStart());
+            ends[i] = toNanos(booking.getEnd());
+        }
+        return Intervals.sorted(ids, starts, ends);
+    }
+
+    private static long toNanos(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * NANOS_PER_SECOND + dateTime.getNano();
+    }
+
+    private static LocalDateTime fromNanos(long nanos) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(nanos, NANOS_PER_SECOND),
+                (int) Math.floorMod(nanos, NANOS_PER_SECOND), ZoneOffset.UTC);
+    }
+
+    private static final class Intervals {
+        private final long[] ids;
+        private final long[] starts;
+        private final long[] ends;
+        private final long[] maxEnds;
+
+        private Intervals(long[] ids, long[] starts, long[] ends) {
+            this.ids = ids;
+            this.starts = starts;
+            this.ends = ends;
+            this.maxEnds = new long[ends.length];
+            long maxEnd = Long.MIN_VALUE;
+            for (int i = 0; i < ends.length; i++) {
+                maxEnd = Math.max(maxEnd, ends[i]);
+                maxEnds[i] = maxEnd;
+            }
+        }
+
+        static Intervals sorted(long[] ids, long[] starts, long[] ends) {
+            Integer[] order = new Integer[ids.length];
+            for (int i = 0; i < order.length; i++) order[i] = i;
+            Arrays.sort(order, Comparator.comparingLong(i -> starts[i]));
+            long[] sortedIds = new long[ids.length];
+            long[] sortedStarts = new long[ids.length];
+            long[] sortedEnds = new long[ids.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedIds[i] = ids[order[i]];
+                sortedStarts[i] = starts[order[i]];
+                sortedEnds[i] = ends[order[i]];
+            }
+            return new Intervals(sortedIds, sortedStarts, sortedEnds);
+        }
+
+        Intervals with(long id, long start, long end) {
+            Intervals current = without(id);
+            int n = current.ids.length;
+            int position = upperBound(current.starts, start);
+            long[] newIds = new long[n + 1];
+            long[] newStarts = new long[n + 1];
+            long[] newEnds = new long[n + 1];
+            insert(current.ids, newIds, position, id);
+            insert(current.starts, newStarts, position, start);
+            insert(current.ends, newEnds, position, end);
+            return new Intervals(newIds, newStarts, newEnds);
+        }
+
+        Intervals without(long id) {
+            int position = -1;
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == id) {
+                    position = i;
+                    break;
+                }
+            }
+            if (position < 0) return this;
+            return new Intervals(delete(ids, position), delete(starts, position), delete(ends, position));
+        }
+
+        List<AvailabilityWindowDto> freeWindows(long from, long to) {
+            List<AvailabilityWindowDto> windows = new ArrayList<>();
+            long cursor = from;
+            for (int i = upperBound(maxEnds, from); i < starts.length && starts[i] < to; i++) {
+                if (starts[i] > cursor) windows.add(new AvailabilityWindowDto(fromNanos(cursor), fromNanos(starts[i])));
+                cursor = Math.max(cursor, ends[i]);
+                if (cursor >= to) return windows;
+            }
+            windows.add(new AvailabilityWindowDto(fromNanos(cursor), fromNanos(to)));
+            return windows;
+        }
+
+        private static int upperBound(long[] sorted, long value) {
+            int low = 0;
+            int high = sorted.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (sorted[middle] <= value) low = middle + 1;
+                else high = middle;
+            }
+            return low;
+        }
+
+        private static void insert(long[] source, long[] target, int position, long value) {
+            System.arraycopy(source, 0, target, 0, position);
+            target[position] = value;
+            System.arraycopy(source, position, target, position + 1, source.length - position);
+        }
+
+        private static long[] delete(long[] source, int position) {
+            long[] target = new long[source.length - 1];
+            System.arraycopy(source, 0, target, 0, position);
+            System.arraycopy(source, position + 1, target, position, source.length - position - 1);
+            return target;
+        }
+    }
+}
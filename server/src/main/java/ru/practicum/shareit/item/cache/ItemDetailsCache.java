@@ -0,0 +1,80 @@
+package ru.practicum.shareit.item.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.dto.ItemWithBookingAndCommentsDto;
+import ru.practicum.shareit.util.AfterCommit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+@Component
+public class ItemDetailsCache {
+    private static final String CACHE_NAME = "itemDetails";
+
+    private final Cache<Long, Entry> cache;
+
+    public ItemDetailsCache(@Value("${shareit.item-cache.max-size:10000}") long maxSize,
+                            @Value("${shareit.item-cache.ttl:5m}") Duration ttl,
+                            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilNextBookingStarts(ttl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Entry get(long itemId, Function<Long, Entry> loader) {
+        return cache.get(itemId, loader);
+    }
+
+    public void evict(long itemId) {
+        AfterCommit.run(() -> cache.invalidate(itemId));
+    }
+
+    public void evictAll() {
+        AfterCommit.run(cache::invalidateAll);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private final long ownerId;
+        private final ItemWithBookingAndCommentsDto item;
+    }
+
+    private static class UntilNextBookingStarts implements Expiry<Long, Entry> {
+        private final long ttlNanos;
+
+        UntilNextBookingStarts(Duration ttl) {
+            this.ttlNanos = ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(Long key, Entry entry, long currentTime) {
+            if (entry.getItem().getNextBooking() == null) return ttlNanos;
+            LocalDateTime nextStart = entry.getItem().getNextBooking().getStart();
+            long untilNextStart = Duration.between(LocalDateTime.now(), nextStart).toNanos();
+            return Math.max(0, Math.min(ttlNanos, untilNextStart));
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, Entry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.item.comment.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import ru.practicum.shareit.item.comment.model.Comment;
 import ru.practicum.shareit.item.model.Item;
@@ -9,7 +10,9 @@ import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    @EntityGraph(attributePaths = "author")
     List<Comment> findAllByItem(Item item);
 
+    @EntityGraph(attributePaths = "author")
     List<Comment> findByItemIn(Collection items);
 }
\ No newline at end of file
@@ -1,14 +1,18 @@
 package ru.practicum.shareit.item.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.item.comment.dto.CommentDto;
 import ru.practicum.shareit.item.comment.dto.CommentOutputDto;
+import ru.practicum.shareit.item.dto.AvailabilityWindowDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemWithBookingAndCommentsDto;
+import ru.practicum.shareit.item.dto.SearchMode;
 import ru.practicum.shareit.item.service.ItemService;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -44,11 +48,27 @@ public class ItemController {
         return ResponseEntity.ok(itemService.getAllUserItems(userId, from, size));
     }
 
+    @GetMapping("/{itemId}/availability")
+    public ResponseEntity<List<AvailabilityWindowDto>> getItemAvailability(
+            @RequestHeader("X-Sharer-User-Id") long userId,
+            @PathVariable long itemId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(itemService.getItemAvailability(userId, itemId, from, to));
+    }
+
     @GetMapping("/search")
     public ResponseEntity<List<ItemDto>> getSearchItems(@RequestParam String text,
+                                                        @RequestParam(defaultValue = "SUBSTRING") SearchMode mode,
+                                                        @RequestParam(required = false)
+                                                        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                        LocalDateTime start,
+                                                        @RequestParam(required = false)
+                                                        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                        LocalDateTime end,
                                                         @RequestParam(name = "from") Integer from,
                                                         @RequestParam(name = "size") Integer size) {
-        return ResponseEntity.ok(itemService.getSearchItems(text, from, size));
+        return ResponseEntity.ok(itemService.getSearchItems(text, mode, start, end, from, size));
     }
 
     @PostMapping("/{itemId}/comment")
@@ -1,24 +1,83 @@
 package ru.practicum.shareit.item.repository;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.model.Item;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
 
-    @Query("select i from Item i " +
+    @Query("select new ru.practicum.shareit.item.dto.ItemDto(i.id, i.name, i.description, i.available, " +
+            "i.request.id) from Item i " +
             "where (upper(i.name) like upper(concat('%', ?1, '%')) " +
             "or upper(i.description) like upper(concat('%', ?1, '%'))) " +
             "and i.available = true")
-    List<Item> search(String text, Pageable pageable);
+    List<ItemDto> search(String text, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    @Query(value = "select i.* from items i " +
+            "where i.is_available = true " +
+            "and (i.search_vector @@ plainto_tsquery('russian', ?1) " +
+            "or upper(i.name) like upper(concat('%', ?1, '%')) " +
+            "or upper(i.description) like upper(concat('%', ?1, '%'))) " +
+            "order by ts_rank(i.search_vector, plainto_tsquery('russian', ?1)) desc, i.id", nativeQuery = true)
+    List<Item> searchRanked(String text, Pageable pageable);
 
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    @Query(value = "select i.* from items i " +
+            "where i.is_available = true " +
+            "and (upper(i.name) like upper(concat('%', ?1, '%')) " +
+            "or upper(i.description) like upper(concat('%', ?1, '%'))) " +
+            "and not exists (select 1 from booking b where b.item_id = i.id and b.status = 'APPROVED' " +
+            "and tsrange(b.start_date, b.end_date) && tsrange(?2, ?3))", nativeQuery = true)
+    List<Item> searchFreeBetween(String text, LocalDateTime start, LocalDateTime end, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    @Query(value = "select i.* from items i " +
+            "where i.is_available = true " +
+            "and (i.search_vector @@ plainto_tsquery('russian', ?1) " +
+            "or upper(i.name) like upper(concat('%', ?1, '%')) " +
+            "or upper(i.description) like upper(concat('%', ?1, '%'))) " +
+            "and not exists (select 1 from booking b where b.item_id = i.id and b.status = 'APPROVED' " +
+            "and tsrange(b.start_date, b.end_date) && tsrange(?2, ?3)) " +
+            "order by ts_rank(i.search_vector, plainto_tsquery('russian', ?1)) desc, i.id", nativeQuery = true)
+    List<Item> searchRankedFreeBetween(String text, LocalDateTime start, LocalDateTime end, Pageable pageable);
+
+    @EntityGraph(attributePaths = "owner")
+    Optional<Item> findWithOwnerById(long id);
+
+    @EntityGraph(attributePaths = {"owner", "request.requester"})
+    Optional<Item> findDetailedById(long id);
+
+    @Query("select i from Item i join fetch i.owner left join fetch i.request r left join fetch r.requester " +
+            "where i.id in ?1")
+    List<Item> findAllWithOwnerByIdIn(Collection<Long> ids);
+
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<Item> findByOwner_Id(long ownerId, Pageable pageable);
 
-    List<Item> findByRequest_Id(long requestId);
+    @EntityGraph(attributePaths = {"owner", "request.requester"})
+    List<Item> findByIdGreaterThanOrderByIdAsc(long id, Pageable pageable);
+
+    @Query("select new ru.practicum.shareit.item.dto.ItemDto(i.id, i.name, i.description, i.available, " +
+            "i.request.id) from Item i " +
+            "where i.request.id = ?1")
+    List<ItemDto> findAnswersByRequestId(long requestId);
 
-    List<Item> findByRequestIn(Collection requests);
+    @Query("select new ru.practicum.shareit.item.dto.ItemDto(i.id, i.name, i.description, i.available, " +
+            "i.request.id) from Item i " +
+            "where i.request.id in ?1")
+    List<ItemDto> findAnswersByRequestIdIn(Collection<Long> requestIds);
 }
\ No newline at end of file
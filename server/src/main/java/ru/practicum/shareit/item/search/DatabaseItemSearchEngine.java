@@ -0,0 +1,50 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.SearchMode;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.mapper.ItemMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "database", matchIfMissing = true)
+public class DatabaseItemSearchEngine implements ItemSearchEngine {
+    private final ItemRepository itemRepository;
+
+    @Override
+    public List<ItemDto> search(String text, SearchMode mode, LocalDateTime start, LocalDateTime end,
+                                int from, int size) {
+        Pageable pageable = PageRequest.of(from / size, size);
+        if (start == null && mode != SearchMode.RANKED) return itemRepository.search(text, pageable);
+        List<Item> items;
+        if (start == null) {
+            items = itemRepository.searchRanked(text, pageable);
+        } else {
+            items = mode == SearchMode.RANKED
+                    ? itemRepository.searchRankedFreeBetween(text, start, end, pageable)
+                    : itemRepository.searchFreeBetween(text, start, end, pageable);
+        }
+        return items.stream()
+                .map(ItemMapper::toItemDto)
+                .collect(toList());
+    }
+
+    @Override
+    public void index(Item item) {
+    }
+
+    @Override
+    public void removeUser(long userId) {
+    }
+}
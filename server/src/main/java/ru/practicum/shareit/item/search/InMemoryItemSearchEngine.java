@@ -0,0 +1,313 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.SearchMode;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.util.AfterCommit;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+import static java.util.stream.Collectors.toList;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "memory")
+public class InMemoryItemSearchEngine implements ItemSearchEngine {
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final int FREE_CHECK_BATCH_SIZE = 1000;
+    private static final int NAME_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final ItemRepository itemRepository;
+    private final BookingRepository bookingRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Index index = new Index();
+
+    @PostConstruct
+    public void rebuild() {
+        Index rebuilt = new Index();
+        long lastId = 0;
+        List<Item> batch;
+        do {
+            batch = itemRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (Item item : batch) {
+                rebuilt.add(new Document(item));
+                lastId = item.getId();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        lock.writeLock().lock();
+        try {
+            index = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<ItemDto> search(String text, SearchMode mode, LocalDateTime start, LocalDateTime end,
+                                int from, int size) {
+        String query = normalize(text);
+        List<Document> found;
+        lock.readLock().lock();
+        try {
+            found = mode == SearchMode.RANKED ? index.searchRanked(query) : index.searchSubstring(query);
+        } finally {
+            lock.readLock().unlock();
+        }
+        long skip = (long) (from / size) * size;
+        if (start == null) {
+            return found.stream()
+                    .skip(skip)
+                    .limit(size)
+                    .map(Document::toDto)
+                    .collect(toList());
+        }
+
+        List<ItemDto> page = new ArrayList<>(size);
+        for (int i = 0; i < found.size() && page.size() < size; i += FREE_CHECK_BATCH_SIZE) {
+            List<Document> batch = found.subList(i, Math.min(found.size(), i + FREE_CHECK_BATCH_SIZE));
+            Set<Long> booked = new HashSet<>(bookingRepository.findItemIdsBookedBetween(start, end,
+                    batch.stream().map(document -> document.id).collect(toList())));
+            for (Document document : batch) {
+                if (page.size() == size) break;
+                if (booked.contains(document.id)) continue;
+                if (skip > 0) {
+                    skip--;
+                    continue;
+                }
+                page.add(document.toDto());
+            }
+        }
+        return page;
+    }
+
+    @Override
+    public void index(Item item) {
+        Document document = new Document(item);
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                index.remove(document.id);
+                index.add(document);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    @Override
+    public void removeUser(long userId) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                List<Long> removed = index.documents.values().stream()
+                        .filter(document -> document.ownerId == userId
+                                || (document.requesterId != null && document.requesterId == userId))
+                        .map(document -> document.id)
+                        .collect(toList());
+                removed.forEach(index::remove);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT).replace('ё', 'е');
+    }
+
+    private static List<String> tokenize(String normalized) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(normalized)) {
+            if (!token.isEmpty()) tokens.add(token);
+        }
+        return tokens;
+    }
+
+    private static List<Long> trigrams(String normalized) {
+        List<Long> trigrams = new ArrayList<>();
+        for (int i = 0; i + 3 <= normalized.length(); i++) {
+            trigrams.add(((long) normalized.charAt(i) << 32)
+                    | ((long) normalized.charAt(i + 1) << 16)
+                    | normalized.charAt(i + 2));
+        }
+        return trigrams;
+    }
+
+    private static final class Index {
+        private final NavigableMap<Long, Document> documents = new TreeMap<>();
+        private final Map<Long, LongPostings> trigramPostings = new HashMap<>();
+        private final Map<String, LongPostings> tokenPostings = new HashMap<>();
+
+        void add(Document document) {
+            documents.put(document.id, document);
+            for (Long trigram : trigrams(document.text)) {
+                trigramPostings.computeIfAbsent(trigram, key -> new LongPostings()).add(document.id);
+            }
+            for (String token : tokenize(document.text)) {
+                tokenPostings.computeIfAbsent(token, key -> new LongPostings()).add(document.id);
+            }
+        }
+
+        void remove(long id) {
+            Document document = documents.remove(id);
+            if (document == null) return;
+            for (Long trigram : trigrams(document.text)) {
+                removePosting(trigramPostings, trigram, id);
+            }
+            for (String token : tokenize(document.text)) {
+                removePosting(tokenPostings, token, id);
+            }
+        }
+
+        List<Document> searchSubstring(String query) {
+            List<Document> found = new ArrayList<>();
+            if (query.isBlank()) return found;
+            List<Long> queryTrigrams = trigrams(query);
+            if (queryTrigrams.isEmpty()) {
+                for (Document document : documents.values()) {
+                    if (document.matches(query)) found.add(document);
+                }
+                return found;
+            }
+
+            List<LongPostings> postings = new ArrayList<>();
+            for (Long trigram : queryTrigrams) {
+                LongPostings posting = trigramPostings.get(trigram);
+                if (posting == null) return found;
+                postings.add(posting);
+            }
+            postings.sort(Comparator.comparingInt(LongPostings::size));
+            LongPostings shortest = postings.get(0);
+            for (int i = 0; i < shortest.size(); i++) {
+                long id = shortest.get(i);
+                if (containsAll(postings, id)) {
+                    Document document = documents.get(id);
+                    if (document.matches(query)) found.add(document);
+                }
+            }
+            return found;
+        }
+
+        List<Document> searchRanked(String query) {
+            Map<Long, Integer> scores = new HashMap<>();
+            for (Document document : searchSubstring(query)) {
+                scores.put(document.id, 0);
+            }
+            List<String> queryTokens = tokenize(query);
+            for (String token : queryTokens) {
+                LongPostings posting = tokenPostings.get(token);
+                if (posting == null) continue;
+                for (int i = 0; i < posting.size(); i++) {
+                    scores.putIfAbsent(posting.get(i), 0);
+                }
+            }
+
+            List<Document> found = new ArrayList<>();
+            for (Map.Entry<Long, Integer> entry : scores.entrySet()) {
+                Document document = documents.get(entry.getKey());
+                if (!document.available) continue;
+                entry.setValue(document.score(queryTokens));
+                found.add(document);
+            }
+            found.sort(Comparator.<Document>comparingInt(document -> scores.get(document.id)).reversed()
+                    .thenComparingLong(document -> document.id));
+            return found;
+        }
+
+        private static boolean containsAll(List<LongPostings> postings, long id) {
+            for (int i = 1; i < postings.size(); i++) {
+                if (!postings.get(i).contains(id)) return false;
+            }
+            return true;
+        }
+
+        private static <K> void removePosting(Map<K, LongPostings> postings, K key, long id) {
+            LongPostings posting = postings.get(key);
+            if (posting == null) return;
+            posting.remove(id);
+            if (posting.isEmpty()) postings.remove(key);
+        }
+    }
+
+    private static final class Document {
+        private final long id;
+        private final String name;
+        private final String description;
+        private final boolean available;
+        private final Long requestId;
+        private final long ownerId;
+        private final Long requesterId;
+        private final String normalizedName;
+        private final String normalizedDescription;
+        private final String text;
+
+        Document(Item item) {
+            id = item.getId();
+            name = item.getName();
+            description = item.getDescription();
+            available = Boolean.TRUE.equals(item.getAvailable());
+            requestId = item.getRequest() == null ? null : item.getRequest().getId();
+            requesterId = item.getRequest() == null ? null : item.getRequest().getRequester().getId();
+            ownerId = item.getOwner().getId();
+            normalizedName = normalize(name);
+            normalizedDescription = normalize(description);
+            text = normalizedName + '\n' + normalizedDescription;
+        }
+
+        boolean matches(String query) {
+            return available && (normalizedName.contains(query) || normalizedDescription.contains(query));
+        }
+
+        int score(List<String> queryTokens) {
+            int score = 0;
+            List<String> nameTokens = tokenize(normalizedName);
+            List<String> descriptionTokens = tokenize(normalizedDescription);
+            for (String token : queryTokens) {
+                score += NAME_WEIGHT * occurrences(nameTokens, token);
+                score += DESCRIPTION_WEIGHT * occurrences(descriptionTokens, token);
+            }
+            return score;
+        }
+
+        ItemDto toDto() {
+            return ItemDto.builder()
+                    .id(id)
+                    .name(name)
+                    .description(description)
+                    .available(available)
+                    .requestId(requestId)
+                    .build();
+        }
+
+        private static int occurrences(List<String> tokens, String token) {
+            int count = 0;
+            for (String candidate : tokens) {
+                if (candidate.equals(token)) count++;
+            }
+            return count;
+        }
+    }
+}
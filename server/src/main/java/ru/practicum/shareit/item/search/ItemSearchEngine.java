@@ -0,0 +1,17 @@
+package ru.practicum.shareit.item.search;
+
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.SearchMode;
+import ru.practicum.shareit.item.model.Item;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ItemSearchEngine {
+
+    List<ItemDto> search(String text, SearchMode mode, LocalDateTime start, LocalDateTime end, int from, int size);
+
+    void index(Item item);
+
+    void removeUser(long userId);
+}
@@ -2,9 +2,12 @@ package ru.practicum.shareit.item.service;
 
 import ru.practicum.shareit.item.comment.dto.CommentDto;
 import ru.practicum.shareit.item.comment.dto.CommentOutputDto;
+import ru.practicum.shareit.item.dto.AvailabilityWindowDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemWithBookingAndCommentsDto;
+import ru.practicum.shareit.item.dto.SearchMode;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ItemService {
@@ -17,7 +20,10 @@ public interface ItemService {
 
     ItemWithBookingAndCommentsDto getItemById(long userId, long itemId);
 
-    List<ItemDto> getSearchItems(String text, int from, int size);
+    List<AvailabilityWindowDto> getItemAvailability(long userId, long itemId, LocalDateTime from, LocalDateTime to);
+
+    List<ItemDto> getSearchItems(String text, SearchMode mode, LocalDateTime start, LocalDateTime end,
+                                 int from, int size);
 
     CommentOutputDto createComment(CommentDto commentDto, long userId, long itemId);
 }
\ No newline at end of file
@@ -1,25 +1,32 @@
 package ru.practicum.shareit.item.service;
 
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dto.BookingForItemDto;
-import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.dto.BookingForItemView;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.exception.IdNotFoundException;
 import ru.practicum.shareit.exception.UnavailableException;
+import ru.practicum.shareit.item.availability.ItemAvailabilityIndex;
+import ru.practicum.shareit.item.cache.ItemDetailsCache;
 import ru.practicum.shareit.item.comment.dto.CommentDto;
 import ru.practicum.shareit.item.comment.dto.CommentOutputDto;
 import ru.practicum.shareit.item.comment.model.Comment;
 import ru.practicum.shareit.item.comment.repository.CommentRepository;
+import ru.practicum.shareit.item.dto.AvailabilityWindowDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemWithBookingAndCommentsDto;
+import ru.practicum.shareit.item.dto.SearchMode;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
+import ru.practicum.shareit.mapper.BookingMapper;
+import ru.practicum.shareit.mapper.CommentMapper;
+import ru.practicum.shareit.mapper.ItemMapper;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
@@ -37,23 +44,27 @@ import static java.util.stream.Collectors.toList;
 @Transactional
 @RequiredArgsConstructor
 public class ItemServiceImpl implements ItemService {
-    private final ModelMapper mapper;
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
     private final BookingRepository bookingRepository;
     private final CommentRepository commentRepository;
     private final ItemRequestRepository itemRequestRepository;
+    private final ItemSearchEngine searchEngine;
+    private final ItemDetailsCache itemDetailsCache;
+    private final ItemAvailabilityIndex availabilityIndex;
 
     public ItemDto createItem(ItemDto itemDto, long userId) {
-        Item item = mapper.map(itemDto, Item.class);
+        Item item = ItemMapper.toItem(itemDto);
         item.setOwner(userRepository.findById(userId).orElseThrow(() -> new IdNotFoundException("Пользователь не найден")));
         if (itemDto.getRequestId() != null)
             item.setRequest(itemRequestRepository.findById(itemDto.getRequestId()).orElseThrow(() -> new IdNotFoundException("Запрос не найден")));
-        return mapper.map(itemRepository.save(mapper.map(item, Item.class)), ItemDto.class);
+        Item savedItem = itemRepository.save(item);
+        searchEngine.index(savedItem);
+        return ItemMapper.toItemDto(savedItem);
     }
 
     public ItemDto updateItem(ItemDto item, long userId, long itemId) {
-        Item existItem = itemRepository.findById(itemId).orElseThrow(() -> new IdNotFoundException("Предмет не найден"));
+        Item existItem = itemRepository.findWithOwnerById(itemId).orElseThrow(() -> new IdNotFoundException("Предмет не найден"));
         User user = userRepository.findById(userId).orElseThrow(() -> new IdNotFoundException("Пользователь не найден"));
         if (existItem.getOwner().getId() == user.getId()) {
             if (item.getName() != null) existItem.setName(item.getName());
@@ -62,9 +73,13 @@ public class ItemServiceImpl implements ItemService {
         } else {
             throw new IdNotFoundException("Предмет не найден");
         }
-        return mapper.map(itemRepository.save(existItem), ItemDto.class);
+        Item savedItem = itemRepository.save(existItem);
+        searchEngine.index(savedItem);
+        itemDetailsCache.evict(itemId);
+        return ItemMapper.toItemDto(savedItem);
     }
 
+    @Transactional(readOnly = true)
     public List<ItemWithBookingAndCommentsDto> getAllUserItems(long userId, int from, int size) {
         User user = userRepository.findById(userId).orElseThrow(() -> new IdNotFoundException("Пользователь не найден"));
         Pageable pageable = PageRequest.of(from / size, size, Sort.by(Sort.Direction.ASC, "id"));
@@ -73,17 +88,15 @@ public class ItemServiceImpl implements ItemService {
         Map<Item, List<Comment>> comments = commentRepository.findByItemIn(items)
                 .stream()
                 .collect(groupingBy(Comment::getItem, toList()));
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, List<BookingForItemView>> bookings = getLastAndNextBookings(
+                items.stream().map(Item::getId).collect(toList()), now);
         for (Item item : items) {
-            ItemWithBookingAndCommentsDto dtoItem = mapper.map(item, ItemWithBookingAndCommentsDto.class);
-            List<Booking> lastBooking = bookingRepository.findLastBooking(item, LocalDateTime.now(), PageRequest.of(0, 1));
-            List<Booking> nextBooking = bookingRepository.findNextBooking(item, LocalDateTime.now(), PageRequest.of(0, 1));
-            if (lastBooking.isEmpty()) dtoItem.setLastBooking(null);
-            else dtoItem.setLastBooking(mapper.map(lastBooking.get(0), BookingForItemDto.class));
-            if (nextBooking.isEmpty()) dtoItem.setNextBooking(null);
-            else dtoItem.setNextBooking(mapper.map(nextBooking.get(0), BookingForItemDto.class));
+            ItemWithBookingAndCommentsDto dtoItem = ItemMapper.toItemWithBookingAndCommentsDto(item);
+            setLastAndNextBookings(dtoItem, bookings.get(item.getId()), now);
             if (comments.get(item) == null) dtoItem.setComments(Collections.emptyList());
             else dtoItem.setComments(comments.get(item).stream()
-                    .map(comment -> mapper.map(comment, CommentOutputDto.class))
+                    .map(CommentMapper::toCommentOutputDto)
                     .collect(toList()));
             dtoItems.add(dtoItem);
         }
@@ -91,31 +104,33 @@ public class ItemServiceImpl implements ItemService {
     }
 
     public ItemWithBookingAndCommentsDto getItemById(long userId, long itemId) {
-        Item item = itemRepository.findById(itemId).orElseThrow(() -> new IdNotFoundException("Предмет не найден"));
-        User user = userRepository.findById(userId).orElseThrow(() -> new IdNotFoundException("Пользователь не найден"));
-        ItemWithBookingAndCommentsDto dto = mapper.map(item, ItemWithBookingAndCommentsDto.class);
-        if (item.getOwner().getId() == user.getId()) {
-            List<Booking> lastBooking = bookingRepository.findLastBooking(item, LocalDateTime.now(), PageRequest.of(0, 1));
-            List<Booking> nextBooking = bookingRepository.findNextBooking(item, LocalDateTime.now(), PageRequest.of(0, 1));
-            if (lastBooking.isEmpty()) dto.setLastBooking(null);
-            else dto.setLastBooking(mapper.map(lastBooking.get(0), BookingForItemDto.class));
-            if (nextBooking.isEmpty()) dto.setNextBooking(null);
-            else dto.setNextBooking(mapper.map(nextBooking.get(0), BookingForItemDto.class));
+        ItemDetailsCache.Entry entry = itemDetailsCache.get(itemId, this::loadItemDetails);
+        if (userRepository.findById(userId).isEmpty()) throw new IdNotFoundException("Пользователь не найден");
+        ItemWithBookingAndCommentsDto dto = entry.getItem().toBuilder().build();
+        if (entry.getOwnerId() != userId) {
+            dto.setLastBooking(null);
+            dto.setNextBooking(null);
         }
-        List<CommentOutputDto> comments = commentRepository.findAllByItem(item).stream()
-                .map(comment -> mapper.map(comment, CommentOutputDto.class))
-                .collect(toList());
-        dto.setComments(comments);
         return dto;
     }
 
-    public List<ItemDto> getSearchItems(String text, int from, int size) {
-        Pageable pageable = PageRequest.of(from / size, size);
+    public List<AvailabilityWindowDto> getItemAvailability(long userId, long itemId,
+                                                           LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) throw new UnavailableException("Начало периода должно быть раньше конца");
+        if (userRepository.findById(userId).isEmpty()) throw new IdNotFoundException("Пользователь не найден");
+        if (itemRepository.findById(itemId).isEmpty()) throw new IdNotFoundException("Предмет не найден");
+        return availabilityIndex.getFreeWindows(itemId, from, to);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ItemDto> getSearchItems(String text, SearchMode mode, LocalDateTime start, LocalDateTime end,
+                                        int from, int size) {
+        if ((start == null) != (end == null))
+            throw new UnavailableException("Для поиска по датам нужно указать начало и конец периода");
+        if (start != null && !start.isBefore(end))
+            throw new UnavailableException("Начало периода должно быть раньше конца");
         if (text.isBlank()) return Collections.emptyList();
-        return itemRepository.search(text, pageable)
-                .stream()
-                .map(item -> mapper.map(item, ItemDto.class))
-                .collect(toList());
+        return searchEngine.search(text, mode, start, end, from, size);
     }
 
     @Override
@@ -123,10 +138,44 @@ public class ItemServiceImpl implements ItemService {
         Item item = itemRepository.findById(itemId).orElseThrow(() -> new IdNotFoundException("Предмет не найден"));
         User user = userRepository.findById(userId).orElseThrow(() -> new IdNotFoundException("Пользователь не найден"));
         if (bookingRepository.existBooking(user, item, LocalDateTime.now())) {
-            Comment comment = mapper.map(commentDto, Comment.class);
+            Comment comment = CommentMapper.toComment(commentDto);
             comment.setItem(item);
             comment.setAuthor(user);
-            return mapper.map(commentRepository.save(comment), CommentOutputDto.class);
+            Comment savedComment = commentRepository.save(comment);
+            itemDetailsCache.evict(itemId);
+            return CommentMapper.toCommentOutputDto(savedComment);
         } else throw new UnavailableException("Отзывы могут оставлять только те люди, которые уже пользовались вещью");
     }
+
+    private ItemDetailsCache.Entry loadItemDetails(long itemId) {
+        Item item = itemRepository.findById(itemId).orElseThrow(() -> new IdNotFoundException("Предмет не найден"));
+        ItemWithBookingAndCommentsDto dto = ItemMapper.toItemWithBookingAndCommentsDto(item);
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, List<BookingForItemView>> bookings = getLastAndNextBookings(List.of(item.getId()), now);
+        setLastAndNextBookings(dto, bookings.get(item.getId()), now);
+        List<CommentOutputDto> comments = commentRepository.findAllByItem(item).stream()
+                .map(CommentMapper::toCommentOutputDto)
+                .collect(toList());
+        dto.setComments(comments);
+        return new ItemDetailsCache.Entry(item.getOwner().getId(), dto);
+    }
+
+    private Map<Long, List<BookingForItemView>> getLastAndNextBookings(List<Long> itemIds, LocalDateTime now) {
+        if (itemIds.isEmpty()) return Collections.emptyMap();
+        return bookingRepository.findLastAndNextBookings(itemIds, now)
+                .stream()
+                .collect(groupingBy(BookingForItemView::getItemId, toList()));
+    }
+
+    private void setLastAndNextBookings(ItemWithBookingAndCommentsDto dto, List<BookingForItemView> bookings,
+                                        LocalDateTime now) {
+        dto.setLastBooking(null);
+        dto.setNextBooking(null);
+        if (bookings == null) return;
+        for (BookingForItemView booking : bookings) {
+            BookingForItemDto bookingDto = BookingMapper.toBookingForItemDto(booking);
+            if (booking.getStart().isBefore(now)) dto.setLastBooking(bookingDto);
+            else dto.setNextBooking(bookingDto);
+        }
+    }
 }
@@ -0,0 +1,59 @@
+package ru.practicum.shareit.mapper;
+
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingForItemDto;
+import ru.practicum.shareit.booking.dto.BookingForItemView;
+import ru.practicum.shareit.booking.dto.BookingOutputDto;
+import ru.practicum.shareit.booking.model.Booking;
+
+public final class BookingMapper {
+
+    private BookingMapper() {
+    }
+
+    public static Booking toBooking(BookingDto bookingDto) {
+        return Booking.builder()
+                .start(bookingDto.getStart())
+                .end(bookingDto.getEnd())
+                .build();
+    }
+
+    public static BookingDto toBookingDto(Booking booking) {
+        return BookingDto.builder()
+                .itemId(booking.getItem().getId())
+                .start(booking.getStart())
+                .end(booking.getEnd())
+                .build();
+    }
+
+    public static BookingOutputDto toBookingOutputDto(Booking booking) {
+        return BookingOutputDto.builder()
+                .id(booking.getId())
+                .start(booking.getStart())
+                .end(booking.getEnd())
+                .status(booking.getStatus())
+                .item(booking.getItem())
+                .booker(booking.getBooker())
+                .build();
+    }
+
+    public static BookingForItemDto toBookingForItemDto(Booking booking) {
+        return BookingForItemDto.builder()
+                .id(booking.getId())
+                .start(booking.getStart())
+                .end(booking.getEnd())
+                .bookerId(booking.getBooker().getId())
+                .status(booking.getStatus())
+                .build();
+    }
+
+    public static BookingForItemDto toBookingForItemDto(BookingForItemView booking) {
+        return BookingForItemDto.builder()
+                .id(booking.getId())
+                .start(booking.getStart())
+                .end(booking.getEnd())
+                .bookerId(booking.getBookerId())
+                .status(booking.getStatus())
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package ru.practicum.shareit.mapper;
+
+import ru.practicum.shareit.item.comment.dto.CommentDto;
+import ru.practicum.shareit.item.comment.dto.CommentOutputDto;
+import ru.practicum.shareit.item.comment.model.Comment;
+
+public final class CommentMapper {
+
+    private CommentMapper() {
+    }
+
+    public static Comment toComment(CommentDto commentDto) {
+        Comment comment = new Comment();
+        comment.setText(commentDto.getText());
+        return comment;
+    }
+
+    public static CommentOutputDto toCommentOutputDto(Comment comment) {
+        return CommentOutputDto.builder()
+                .id(comment.getId())
+                .text(comment.getText())
+                .authorName(comment.getAuthor().getName())
+                .created(comment.getCreatedDate())
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package ru.practicum.shareit.mapper;
+
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemWithBookingAndCommentsDto;
+import ru.practicum.shareit.item.model.Item;
+
+public final class ItemMapper {
+
+    private ItemMapper() {
+    }
+
+    public static Item toItem(ItemDto itemDto) {
+        Item item = new Item();
+        if (itemDto.getId() != null) item.setId(itemDto.getId());
+        item.setName(itemDto.getName());
+        item.setDescription(itemDto.getDescription());
+        item.setAvailable(itemDto.getAvailable());
+        return item;
+    }
+
+    public static ItemDto toItemDto(Item item) {
+        return ItemDto.builder()
+                .id(item.getId())
+                .name(item.getName())
+                .description(item.getDescription())
+                .available(item.getAvailable())
+                .requestId(item.getRequest() == null ? null : item.getRequest().getId())
+                .build();
+    }
+
+    public static ItemWithBookingAndCommentsDto toItemWithBookingAndCommentsDto(Item item) {
+        return ItemWithBookingAndCommentsDto.builder()
+                .id(item.getId())
+                .name(item.getName())
+                .description(item.getDescription())
+                .available(item.getAvailable())
+                .requestId(item.getRequest() == null ? null : item.getRequest().getId())
+                .build();
+    }
+}
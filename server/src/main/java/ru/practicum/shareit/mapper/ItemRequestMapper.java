@@ -0,0 +1,50 @@
+package ru.practicum.shareit.mapper;
+
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.dto.ItemRequestOutputDto;
+import ru.practicum.shareit.request.dto.ItemRequestView;
+import ru.practicum.shareit.request.dto.ItemRequestWithAnswersDto;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.dto.UserDto;
+
+public final class ItemRequestMapper {
+
+    private ItemRequestMapper() {
+    }
+
+    public static ItemRequest toItemRequest(ItemRequestDto itemRequestDto) {
+        ItemRequest itemRequest = new ItemRequest();
+        itemRequest.setDescription(itemRequestDto.getDescription());
+        return itemRequest;
+    }
+
+    public static ItemRequestOutputDto toItemRequestOutputDto(ItemRequest itemRequest) {
+        return ItemRequestOutputDto.builder()
+                .id(itemRequest.getId())
+                .description(itemRequest.getDescription())
+                .created(itemRequest.getCreated())
+                .build();
+    }
+
+    public static ItemRequestWithAnswersDto toItemRequestWithAnswersDto(ItemRequest itemRequest) {
+        return ItemRequestWithAnswersDto.builder()
+                .id(itemRequest.getId())
+                .description(itemRequest.getDescription())
+                .created(itemRequest.getCreated())
+                .requester(UserMapper.toUserDto(itemRequest.getRequester()))
+                .build();
+    }
+
+    public static ItemRequestWithAnswersDto toItemRequestWithAnswersDto(ItemRequestView itemRequest) {
+        return ItemRequestWithAnswersDto.builder()
+                .id(itemRequest.getId())
+                .description(itemRequest.getDescription())
+                .created(itemRequest.getCreated())
+                .requester(UserDto.builder()
+                        .id(itemRequest.getRequesterId())
+                        .name(itemRequest.getRequesterName())
+                        .email(itemRequest.getRequesterEmail())
+                        .build())
+                .build();
+    }
+}
@@ -1,14 +1,27 @@
 package ru.practicum.shareit.request.repository;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.request.dto.ItemRequestView;
 import ru.practicum.shareit.request.model.ItemRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
 
-    List<ItemRequest> getAllByRequester_IdOrderByCreatedDesc(Long requesterId);
+    @EntityGraph(attributePaths = "requester")
+    Optional<ItemRequest> findWithRequesterById(long id);
 
-    List<ItemRequest> getItemRequestByRequesterIdIsNotOrderByCreated(Long userId, Pageable pageable);
+    @Query("select new ru.practicum.shareit.request.dto.ItemRequestView(r.id, r.description, r.created, " +
+            "u.id, u.name, u.email) from ItemRequest r join r.requester u " +
+            "where u.id = ?1 order by r.created desc")
+    List<ItemRequestView> findViewsByRequesterId(long requesterId);
+
+    @Query("select new ru.practicum.shareit.request.dto.ItemRequestView(r.id, r.description, r.created, " +
+            "u.id, u.name, u.email) from ItemRequest r join r.requester u " +
+            "where u.id <> ?1 order by r.created")
+    List<ItemRequestView> findViewsByRequesterIdNot(long requesterId, Pageable pageable);
 }
@@ -1,7 +1,6 @@
 package ru.practicum.shareit.request.service;
 
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -9,8 +8,10 @@ import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exception.IdNotFoundException;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.mapper.ItemRequestMapper;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestOutputDto;
+import ru.practicum.shareit.request.dto.ItemRequestView;
 import ru.practicum.shareit.request.dto.ItemRequestWithAnswersDto;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
@@ -20,7 +21,6 @@ import ru.practicum.shareit.user.repository.UserRepository;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
@@ -29,63 +29,62 @@ import static java.util.stream.Collectors.toList;
 @Transactional
 @RequiredArgsConstructor
 public class ItemRequestServiceImpl implements ItemRequestService {
-    private final ModelMapper mapper;
     private final ItemRequestRepository itemRequestRepository;
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
 
     @Override
     public ItemRequestOutputDto addItemRequest(ItemRequestDto itemRequestDto, Long requesterId) {
-        ItemRequest itemRequest = mapper.map(itemRequestDto, ItemRequest.class);
+        ItemRequest itemRequest = ItemRequestMapper.toItemRequest(itemRequestDto);
         itemRequest.setRequester(userRepository.findById(requesterId)
                 .orElseThrow(() -> new IdNotFoundException("Пользователь не найден")));
-        return mapper.map(itemRequestRepository.save(itemRequest), ItemRequestOutputDto.class);
+        return ItemRequestMapper.toItemRequestOutputDto(itemRequestRepository.save(itemRequest));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ItemRequestWithAnswersDto> getItemRequestsByUserId(Long requesterId) {
         User requester = userRepository.findById(requesterId).orElseThrow(
                 () -> new IdNotFoundException("Пользователь не найден"));
-        List<ItemRequest> itemRequests = itemRequestRepository.getAllByRequester_IdOrderByCreatedDesc(requesterId);
+        List<ItemRequestView> itemRequests = itemRequestRepository.findViewsByRequesterId(requesterId);
 
         return getItemRequestsWithAnswers(itemRequests);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ItemRequestWithAnswersDto> getAllRequests(Long requesterId, Integer from, Integer size) {
         User requester = userRepository.findById(requesterId).orElseThrow(
                 () -> new IdNotFoundException("Пользователь не найден"));
         Pageable pageable = PageRequest.of(from / size, size);
-        List<ItemRequest> itemRequests =
-                itemRequestRepository.getItemRequestByRequesterIdIsNotOrderByCreated(requesterId, pageable);
+        List<ItemRequestView> itemRequests = itemRequestRepository.findViewsByRequesterIdNot(requesterId, pageable);
 
         return getItemRequestsWithAnswers(itemRequests);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ItemRequestWithAnswersDto getItemRequestById(Long userId, Long requestId) {
         User user = userRepository.findById(userId).orElseThrow(
                 () -> new IdNotFoundException("Пользователь не найден"));
-        ItemRequest result = itemRequestRepository.findById(requestId).orElseThrow(
+        ItemRequest result = itemRequestRepository.findWithRequesterById(requestId).orElseThrow(
                 () -> new IdNotFoundException("Запрос не найден"));
-        List<ItemDto> items = itemRepository.findByRequest_Id(requestId)
-                .stream()
-                .map(item -> mapper.map(item, ItemDto.class))
-                .collect(Collectors.toList());
-        ItemRequestWithAnswersDto dto = mapper.map(result, ItemRequestWithAnswersDto.class);
+        List<ItemDto> items = itemRepository.findAnswersByRequestId(requestId);
+        ItemRequestWithAnswersDto dto = ItemRequestMapper.toItemRequestWithAnswersDto(result);
         if (items == null) dto.setItems(Collections.emptyList());
         else dto.setItems(items);
         return dto;
     }
 
-    private List<ItemRequestWithAnswersDto> getItemRequestsWithAnswers(List<ItemRequest> itemRequests) {
-        Map<Long, List<ItemDto>> items = itemRepository.findByRequestIn(itemRequests)
+    private List<ItemRequestWithAnswersDto> getItemRequestsWithAnswers(List<ItemRequestView> itemRequests) {
+        if (itemRequests.isEmpty()) return Collections.emptyList();
+        List<Long> requestIds = itemRequests.stream().map(ItemRequestView::getId).collect(toList());
+        Map<Long, List<ItemDto>> items = itemRepository.findAnswersByRequestIdIn(requestIds)
                 .stream()
-                .map(item -> mapper.map(item, ItemDto.class))
                 .collect(groupingBy(ItemDto::getRequestId, toList()));
 
         return itemRequests.stream()
-                .map(itemRequest -> mapper.map(itemRequest, ItemRequestWithAnswersDto.class))
+                .map(ItemRequestMapper::toItemRequestWithAnswersDto)
                 .peek(dto -> {
                     List<ItemDto> it = items.get(dto.getId());
                     if (it == null) dto.setItems(Collections.emptyList());
@@ -1,14 +1,20 @@
 package ru.practicum.shareit.user.service;
 
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.hibernate.Cache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exception.IdNotFoundException;
+import ru.practicum.shareit.item.availability.ItemAvailabilityIndex;
+import ru.practicum.shareit.item.cache.ItemDetailsCache;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
+import ru.practicum.shareit.mapper.UserMapper;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.util.AfterCommit;
 
+import javax.persistence.EntityManagerFactory;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,12 +23,15 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
-    private final ModelMapper mapper;
+    private final ItemSearchEngine searchEngine;
+    private final ItemDetailsCache itemDetailsCache;
+    private final ItemAvailabilityIndex availabilityIndex;
+    private final EntityManagerFactory entityManagerFactory;
 
     public UserDto createUser(UserDto userDto) {
-        User user = mapper.map(userDto, User.class);
+        User user = UserMapper.toUser(userDto);
         User savedUser = userRepository.save(user);
-        return mapper.map(savedUser, UserDto.class);
+        return UserMapper.toUserDto(savedUser);
     }
 
     public UserDto updateUser(UserDto userDto, long userId) {
@@ -30,21 +39,29 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new IdNotFoundException("Пользователь не найден"));
         if (userDto.getName() != null) existingUser.setName(userDto.getName());
         if (userDto.getEmail() != null) existingUser.setEmail(userDto.getEmail());
-        return mapper.map(userRepository.save(existingUser), UserDto.class);
+        User savedUser = userRepository.save(existingUser);
+        itemDetailsCache.evictAll();
+        return UserMapper.toUserDto(savedUser);
     }
 
     public void deleteUser(long userId) {
         userRepository.deleteById(userId);
+        searchEngine.removeUser(userId);
+        itemDetailsCache.evictAll();
+        availabilityIndex.evictAll();
+        AfterCommit.run(() -> entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions());
     }
 
+    @Transactional(readOnly = true)
     public UserDto getUserById(long userId) {
-        return mapper.map(userRepository.findById(userId).orElseThrow(() -> new IdNotFoundException("err")), UserDto.class);
+        return UserMapper.toUserDto(userRepository.findById(userId).orElseThrow(() -> new IdNotFoundException("err")));
     }
 
+    @Transactional(readOnly = true)
     public List<UserDto> getAllUsers() {
         return userRepository.findAll()
                 .stream()
-                .map(user -> mapper.map(user, UserDto.class))
+                .map(UserMapper::toUserDto)
                 .collect(Collectors.toList());
     }
 }
\ No newline at end of file
@@ -0,0 +1,110 @@
+package ru.practicum.shareit;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.cache.ItemDetailsCache;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "ru.practicum.shareit.RecordedStatements")
+public abstract class EmbeddedPostgresTest {
+    private static final EmbeddedPostgres POSTGRES = start();
+
+    @Autowired
+    protected UserService userService;
+    @Autowired
+    protected ItemService itemService;
+    @Autowired
+    protected BookingService bookingService;
+    @Autowired
+    protected ItemRequestService itemRequestService;
+    @Autowired
+    protected ItemDetailsCache itemDetailsCache;
+    @Autowired
+    protected EntityManagerFactory entityManagerFactory;
+
+    protected Statistics statistics;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @BeforeEach
+    void setUpStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    protected long countStatements(Runnable action) {
+        entityManagerFactory.getCache().evictAll();
+        itemDetailsCache.evictAll();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    protected UserDto createUser() {
+        String name = UUID.randomUUID().toString();
+        return userService.createUser(UserDto.builder().name(name).email(name + "@mail.ru").build());
+    }
+
+    protected ItemDto createItem(UserDto owner, String name, Long requestId) {
+        ItemDto item = ItemDto.builder()
+                .name(name)
+                .description("Описание: " + name)
+                .available(true)
+                .requestId(requestId)
+                .build();
+        return itemService.createItem(item, owner.getId());
+    }
+
+    protected long createRequest(UserDto requester) {
+        return itemRequestService.addItemRequest(new ItemRequestDto("Нужна вещь"), requester.getId()).getId();
+    }
+
+    protected long createBooking(UserDto booker, ItemDto item, LocalDateTime start, LocalDateTime end) {
+        return bookingService.createBooking(new BookingDto(item.getId(), start, end), booker.getId()).getId();
+    }
+
+    private static EmbeddedPostgres start() {
+        try {
+            EmbeddedPostgres postgres = EmbeddedPostgres.builder()
+                    .setLocaleConfig("locale", "C.UTF-8")
+                    .setLocaleConfig("encoding", "UTF8")
+                    .start();
+            try (Connection connection = postgres.getPostgresDatabase().getConnection()) {
+                ScriptUtils.executeSqlScript(connection, new FileSystemResource("../database/schema.sql"));
+            }
+            return postgres;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package ru.practicum.shareit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import ru.practicum.shareit.booking.dto.BookingState;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.comment.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.SearchMode;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.InMemoryItemSearchEngine;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StatementCountTest extends EmbeddedPostgresTest {
+    private static final int ITEMS = 3;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private UserDto owner;
+    private UserDto booker;
+    private long requestId;
+    private final List<ItemDto> items = new ArrayList<>();
+    private final List<Long> bookings = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        owner = createUser();
+        booker = createUser();
+        requestId = createRequest(booker);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < ITEMS; i++) {
+            ItemDto item = createItem(owner, "Дрель " + owner.getId() + "-" + i, requestId);
+            items.add(item);
+            long past = createBooking(booker, item, now.minusDays(3), now.minusDays(2));
+            bookingService.approveBooking(owner.getId(), past, true);
+            bookings.add(past);
+            bookings.add(createBooking(booker, item, now.plusDays(2), now.plusDays(3)));
+            itemService.createComment(new CommentDto("Отличная дрель"), booker.getId(), item.getId());
+        }
+    }
+
+    @Test
+    void getBookingById() {
+        assertStatements(1, () -> bookingService.getBookingById(booker.getId(), bookings.get(0)));
+    }
+
+    @Test
+    void getUserAndOwnerBookings() {
+        assertStatements(2, () -> bookingService.getAllUserBooking(booker.getId(), BookingState.ALL, 0, 10));
+        assertStatements(2, () -> bookingService.getOwnerBooking(owner.getId(), BookingState.ALL, 0, 10));
+    }
+
+    @Test
+    void getItemById() {
+        assertStatements(4, () -> itemService.getItemById(owner.getId(), items.get(0).getId()));
+    }
+
+    @Test
+    void getItemByIdDoesNotDependOnBookingsAndComments() {
+        ItemDto item = createItem(owner, "Лестница", null);
+        long empty = countStatements(() -> itemService.getItemById(owner.getId(), item.getId()));
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            UserDto author = createUser();
+            long booking = createBooking(author, item, now.minusDays(20 - 2 * i), now.minusDays(19 - 2 * i));
+            bookingService.approveBooking(owner.getId(), booking, true);
+            createBooking(author, item, now.plusDays(2 + 2 * i), now.plusDays(3 + 2 * i));
+            itemService.createComment(new CommentDto("Комментарий " + i), author.getId(), item.getId());
+        }
+
+        assertEquals(empty, countStatements(() -> itemService.getItemById(owner.getId(), item.getId())));
+        assertEquals(5, itemService.getItemById(owner.getId(), item.getId()).getComments().size());
+    }
+
+    @Test
+    void getAllUserItems() {
+        assertStatements(4, () -> itemService.getAllUserItems(owner.getId(), 0, 10));
+    }
+
+    @Test
+    void createComment() {
+        assertStatements(4, () -> itemService.createComment(new CommentDto("Снова брал"), booker.getId(),
+                items.get(1).getId()));
+    }
+
+    @Test
+    void getRequests() {
+        assertStatements(3, () -> itemRequestService.getItemRequestsByUserId(booker.getId()));
+        assertStatements(3, () -> itemRequestService.getAllRequests(owner.getId(), 0, 10));
+        assertStatements(3, () -> itemRequestService.getItemRequestById(owner.getId(), requestId));
+    }
+
+    @Test
+    void rebuildInMemorySearchIndexOutsideTransaction() {
+        InMemoryItemSearchEngine engine = new InMemoryItemSearchEngine(itemRepository, bookingRepository);
+
+        assertDoesNotThrow(engine::rebuild);
+        List<ItemDto> found = engine.search(items.get(0).getName(), SearchMode.SUBSTRING, null, null, 0, 100);
+        assertEquals(requestId, found.get(0).getRequestId());
+    }
+
+    private void assertStatements(long expected, Supplier<Object> action) {
+        AtomicReference<Object> result = new AtomicReference<>();
+        assertEquals(expected, countStatements(() -> result.set(action.get())));
+        assertDoesNotThrow(() -> objectMapper.writeValueAsString(result.get()));
+    }
+}
@@ -0,0 +1,97 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.EmbeddedPostgresTest;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionResultDto;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class BookingDecisionTest extends EmbeddedPostgresTest {
+    private UserDto owner;
+    private UserDto booker;
+    private ItemDto item;
+    private LocalDateTime start;
+
+    @BeforeEach
+    void setUp() {
+        owner = createUser();
+        booker = createUser();
+        item = createItem(owner, "Палатка", null);
+        start = LocalDateTime.now().plusDays(1);
+    }
+
+    @Test
+    void decideBookingsUpdatesApprovedAndRejectedWithFixedStatements() {
+        long first = createBooking(booker, item, start, start.plusDays(1));
+        long second = createBooking(booker, item, start.plusDays(2), start.plusDays(3));
+        long overlapping = createBooking(booker, item, start.plusHours(12), start.plusDays(2));
+        long rejected = createBooking(booker, item, start, start.plusDays(3));
+        List<BookingDecisionDto> decisions = List.of(
+                new BookingDecisionDto(first, true),
+                new BookingDecisionDto(second, true),
+                new BookingDecisionDto(overlapping, true),
+                new BookingDecisionDto(rejected, false),
+                new BookingDecisionDto(rejected, false));
+        AtomicReference<List<BookingDecisionResultDto>> results = new AtomicReference<>();
+
+        assertEquals(5, countStatements(() -> results.set(bookingService.decideBookings(owner.getId(), decisions))));
+
+        assertDecision(results.get().get(0), 200, BookingStatus.APPROVED);
+        assertDecision(results.get().get(1), 200, BookingStatus.APPROVED);
+        assertDecision(results.get().get(2), 400, null);
+        assertDecision(results.get().get(3), 200, BookingStatus.REJECTED);
+        assertDecision(results.get().get(4), 400, null);
+        assertStatus(first, BookingStatus.APPROVED);
+        assertStatus(second, BookingStatus.APPROVED);
+        assertStatus(overlapping, BookingStatus.WAITING);
+        assertStatus(rejected, BookingStatus.REJECTED);
+    }
+
+    @Test
+    void decideBookingsRejectsOnlyWithoutApprovals() {
+        long rejected = createBooking(booker, item, start, start.plusDays(1));
+
+        assertEquals(3, countStatements(() -> bookingService.decideBookings(owner.getId(),
+                List.of(new BookingDecisionDto(rejected, false)))));
+
+        assertStatus(rejected, BookingStatus.REJECTED);
+    }
+
+    @Test
+    void decideBookingsReportsAlreadyApprovedAndForeignBookings() {
+        long approved = createBooking(booker, item, start, start.plusDays(1));
+        bookingService.approveBooking(owner.getId(), approved, true);
+        long waiting = createBooking(booker, item, start.plusDays(2), start.plusDays(3));
+
+        List<BookingDecisionResultDto> results = bookingService.decideBookings(booker.getId(), List.of(
+                new BookingDecisionDto(approved, false),
+                new BookingDecisionDto(waiting, true),
+                new BookingDecisionDto(-1, true)));
+
+        assertDecision(results.get(0), 400, null);
+        assertDecision(results.get(1), 404, null);
+        assertDecision(results.get(2), 404, null);
+        assertStatus(approved, BookingStatus.APPROVED);
+        assertStatus(waiting, BookingStatus.WAITING);
+    }
+
+    private void assertStatus(long bookingId, BookingStatus status) {
+        assertEquals(status, bookingService.getBookingById(owner.getId(), bookingId).getStatus());
+    }
+
+    private static void assertDecision(BookingDecisionResultDto result, int status, BookingStatus bookingStatus) {
+        assertEquals(status, result.getStatus());
+        assertEquals(bookingStatus, result.getBookingStatus());
+        if (status != 200) assertNotNull(result.getError());
+    }
+}
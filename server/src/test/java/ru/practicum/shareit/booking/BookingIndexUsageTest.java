@@ -0,0 +1,108 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.EmbeddedPostgresTest;
+import ru.practicum.shareit.RecordedStatements;
+import ru.practicum.shareit.booking.dto.BookingState;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BookingIndexUsageTest extends EmbeddedPostgresTest {
+    private static final int USERS = 1000;
+    private static final int ITEMS = 2000;
+    private static final int BOOKINGS_PER_ITEM = 50;
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long userId;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("insert into users (name, email) " +
+                "select 'Арендатор ' || n, 'index-usage-' || n || '@mail.ru' from generate_series(1, ?) n", USERS);
+        userId = jdbcTemplate.queryForObject("select min(id) from users where email like 'index-usage-%'",
+                Long.class);
+        jdbcTemplate.update("insert into items (name, description, is_available, owner_id) " +
+                "select 'Предмет ' || n, 'Описание', true, ? + n % ? from generate_series(1, ?) n",
+                userId, USERS, ITEMS);
+        jdbcTemplate.update("insert into booking (start_date, end_date, item_id, booker_id, status) " +
+                "select now()::timestamp + (2 * j - ?) * interval '1 day', " +
+                "now()::timestamp + (2 * j - ? + 1) * interval '1 day', i.id, ? + (i.id + j) % ?, " +
+                "(array['APPROVED', 'WAITING', 'REJECTED'])[j % 3 + 1] " +
+                "from items i cross join generate_series(1, ?) j where i.name like 'Предмет %'",
+                BOOKINGS_PER_ITEM, BOOKINGS_PER_ITEM, userId, USERS, BOOKINGS_PER_ITEM);
+        jdbcTemplate.execute("analyze");
+    }
+
+    @ParameterizedTest
+    @EnumSource(BookingState.class)
+    void bookerListingUsesBookerIndexes(BookingState state) {
+        String sql = listingSql(() -> bookingService.getAllUserBooking(userId, state, 0, PAGE_SIZE));
+        String plan = explain(sql, state);
+
+        String index = byStatus(state) ? "ix_booking_booker_status_start" : "ix_booking_booker_start";
+        assertTrue(plan.contains("Index Scan using " + index + " on booking"), plan);
+        assertFalse(plan.contains("Sort"), plan);
+    }
+
+    @ParameterizedTest
+    @EnumSource(BookingState.class)
+    void ownerListingUsesOwnerAndItemIndexes(BookingState state) {
+        String sql = listingSql(() -> bookingService.getOwnerBooking(userId, state, 0, PAGE_SIZE));
+        String plan = explain(sql, state);
+
+        assertTrue(plan.contains("Index Scan using ix_items_owner on items"), plan);
+        assertTrue(plan.contains(byStatus(state)
+                ? "Index Scan using ix_booking_item_status_start on booking"
+                : "using ix_booking_item_"), plan);
+        assertFalse(plan.contains("Seq Scan on booking"), plan);
+    }
+
+    private static String listingSql(Runnable listing) {
+        return RecordedStatements.record(listing).stream()
+                .filter(sql -> sql.contains("from public.booking"))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static boolean byStatus(BookingState state) {
+        return state == BookingState.WAITING || state == BookingState.REJECTED;
+    }
+
+    private String explain(String sql, BookingState state) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(userId);
+        switch (state) {
+            case CURRENT:
+                parameters.add(now);
+                parameters.add(now);
+                break;
+            case PAST:
+            case FUTURE:
+                parameters.add(now);
+                break;
+            case WAITING:
+            case REJECTED:
+                parameters.add(state.name());
+                break;
+            default:
+                break;
+        }
+        parameters.add(PAGE_SIZE);
+        return String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class, parameters.toArray()));
+    }
+}
@@ -0,0 +1,71 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.EmbeddedPostgresTest;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.exception.UnavailableException;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+class ConcurrentApprovalTest extends EmbeddedPostgresTest {
+    private static final int THREADS = 8;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void onlyOneOfConcurrentOverlappingApprovalsSucceeds() throws InterruptedException {
+        UserDto owner = createUser();
+        ItemDto item = createItem(owner, "Шуруповёрт", null);
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        List<Long> bookings = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            bookings.add(createBooking(createUser(), item, start.plusHours(i), start.plusDays(1).plusHours(i)));
+        }
+
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch go = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> approvals = new ArrayList<>();
+        for (long booking : bookings) {
+            approvals.add(executor.submit(() -> {
+                ready.countDown();
+                go.await();
+                return bookingService.approveBooking(owner.getId(), booking, true);
+            }));
+        }
+        ready.await();
+        go.countDown();
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+
+        int approved = 0;
+        for (Future<?> approval : approvals) {
+            try {
+                approval.get();
+                approved++;
+            } catch (ExecutionException e) {
+                assertInstanceOf(UnavailableException.class, e.getCause());
+                assertEquals("Предмет уже забронирован на эти даты", e.getCause().getMessage());
+            }
+        }
+        assertEquals(1, approved);
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from booking where item_id = ? and status = ?",
+                Integer.class, item.getId(), BookingStatus.APPROVED.name()));
+    }
+}
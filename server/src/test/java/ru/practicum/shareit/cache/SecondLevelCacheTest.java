@@ -0,0 +1,90 @@
+package ru.practicum.shareit.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import ru.practicum.shareit.EmbeddedPostgresTest;
+import ru.practicum.shareit.exception.IdNotFoundException;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SecondLevelCacheTest extends EmbeddedPostgresTest {
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    private UserDto owner;
+    private UserDto reader;
+    private ItemDto item;
+
+    @BeforeEach
+    void setUp() {
+        owner = createUser();
+        reader = createUser();
+        item = createItem(owner, "Удочка", null);
+    }
+
+    @Test
+    void updateUserIsVisibleThroughCache() {
+        assertCached(() -> userService.getUserById(owner.getId()));
+
+        userService.updateUser(UserDto.builder().name("Новое имя").build(), owner.getId());
+
+        assertEquals("Новое имя", userService.getUserById(owner.getId()).getName());
+        assertEquals(owner.getEmail(), userService.getUserById(owner.getId()).getEmail());
+    }
+
+    @Test
+    void updateItemIsVisibleThroughCache() {
+        assertCached(() -> itemRepository.findById(item.getId()));
+        assertCached(this::ownerItems);
+
+        itemService.updateItem(ItemDto.builder().name("Спиннинг").available(false).build(), owner.getId(),
+                item.getId());
+
+        assertEquals("Спиннинг", itemRepository.findById(item.getId()).orElseThrow().getName());
+        assertEquals(List.of("Спиннинг"), ownerItems().stream().map(Item::getName).collect(toList()));
+        assertEquals(false, itemService.getItemById(reader.getId(), item.getId()).getAvailable());
+    }
+
+    @Test
+    void deleteUserEvictsCascadedRows() {
+        long requestId = createRequest(owner);
+        assertCached(() -> userService.getUserById(owner.getId()));
+        assertCached(() -> itemRepository.findById(item.getId()));
+        assertCached(() -> itemRequestRepository.findById(requestId));
+        assertCached(this::ownerItems);
+
+        userService.deleteUser(owner.getId());
+
+        assertThrows(IdNotFoundException.class, () -> userService.getUserById(owner.getId()));
+        assertTrue(itemRepository.findById(item.getId()).isEmpty());
+        assertTrue(itemRequestRepository.findById(requestId).isEmpty());
+        assertThrows(IdNotFoundException.class, () -> itemService.getItemById(reader.getId(), item.getId()));
+        assertTrue(ownerItems().isEmpty());
+    }
+
+    private List<Item> ownerItems() {
+        return itemRepository.findByOwner_Id(owner.getId(), PageRequest.of(0, 10, Sort.by("id")));
+    }
+
+    private void assertCached(Runnable read) {
+        read.run();
+        statistics.clear();
+        read.run();
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+}
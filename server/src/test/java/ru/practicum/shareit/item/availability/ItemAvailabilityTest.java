@@ -0,0 +1,68 @@
+package ru.practicum.shareit.item.availability;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.EmbeddedPostgresTest;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
+import ru.practicum.shareit.item.dto.AvailabilityWindowDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ItemAvailabilityTest extends EmbeddedPostgresTest {
+    private UserDto owner;
+    private UserDto booker;
+    private ItemDto item;
+    private LocalDateTime from;
+    private LocalDateTime start;
+    private LocalDateTime end;
+    private LocalDateTime to;
+
+    @BeforeEach
+    void setUp() {
+        owner = createUser();
+        booker = createUser();
+        item = createItem(owner, "Палатка", null);
+        from = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).plusDays(1);
+        start = from.plusDays(1);
+        end = from.plusDays(2);
+        to = from.plusDays(3);
+    }
+
+    @Test
+    void approvingRejectedBookingBlocksItsPeriodAgain() {
+        long booking = createBooking(booker, item, start, end);
+        assertEquals(List.of(window(from, start), window(end, to)), windows());
+
+        bookingService.approveBooking(owner.getId(), booking, false);
+        assertEquals(List.of(window(from, to)), windows());
+
+        bookingService.approveBooking(owner.getId(), booking, true);
+        assertEquals(List.of(window(from, start), window(end, to)), windows());
+    }
+
+    @Test
+    void approvingRejectedBookingInBatchBlocksItsPeriodAgain() {
+        long booking = createBooking(booker, item, start, end);
+        assertEquals(List.of(window(from, start), window(end, to)), windows());
+
+        bookingService.decideBookings(owner.getId(), List.of(new BookingDecisionDto(booking, false)));
+        assertEquals(List.of(window(from, to)), windows());
+
+        bookingService.decideBookings(owner.getId(), List.of(new BookingDecisionDto(booking, true)));
+        assertEquals(List.of(window(from, start), window(end, to)), windows());
+    }
+
+    private List<AvailabilityWindowDto> windows() {
+        return itemService.getItemAvailability(booker.getId(), item.getId(), from, to);
+    }
+
+    private static AvailabilityWindowDto window(LocalDateTime start, LocalDateTime end) {
+        return new AvailabilityWindowDto(start, end);
+    }
+}
@@ -0,0 +1,61 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import ru.practicum.shareit.EmbeddedPostgresTest;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.SearchMode;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class InMemoryItemSearchEngineTest extends EmbeddedPostgresTest {
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private String name;
+    private LocalDateTime start;
+    private final List<Long> itemIds = new ArrayList<>();
+    private InMemoryItemSearchEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        UserDto owner = createUser();
+        UserDto booker = createUser();
+        name = "Байдарка №" + owner.getId() + ".";
+        start = LocalDateTime.now().plusDays(10);
+        for (int i = 0; i < 4; i++) {
+            ItemDto item = createItem(owner, name, null);
+            itemIds.add(item.getId());
+            long booking = createBooking(booker, item, start.plusHours(1), start.plusHours(2));
+            if (i % 2 == 0) bookingService.approveBooking(owner.getId(), booking, true);
+        }
+        engine = new InMemoryItemSearchEngine(itemRepository, bookingRepository);
+        engine.rebuild();
+    }
+
+    @Test
+    void searchFreeBetweenSkipsItemsWithApprovedBookings() {
+        assertEquals(List.of(itemIds.get(1), itemIds.get(3)), search(0, 10));
+        assertEquals(List.of(itemIds.get(3)), search(1, 1));
+        assertEquals(itemIds, engine.search(name, SearchMode.SUBSTRING, null, null, 0, 10).stream()
+                .map(ItemDto::getId)
+                .collect(toList()));
+    }
+
+    private List<Long> search(int from, int size) {
+        return engine.search(name, SearchMode.SUBSTRING, start, start.plusDays(1), from, size).stream()
+                .map(ItemDto::getId)
+                .collect(toList());
+    }
+}